@@ -16,10 +16,26 @@
 
 import ballerina/jballerina.java;
 
-isolated function init() {
+# Configurations of the worker pool used for the parallel stream processing and the stream read-ahead.
+configurable WorkerPoolConfig workerPoolConfig = {};
+
+# Configurations of the cache used by `parseStringWithCache` and `parseBytesWithCache`.
+configurable DocumentCacheConfig documentCacheConfig = {};
+
+isolated function init() returns error? {
     setModule();
+    check initWorkerPool(workerPoolConfig);
+    check initDocumentCache(documentCacheConfig);
 }
 
 isolated function setModule() = @java:Method {
     'class: "io.ballerina.lib.data.yaml.ModuleUtils"
 } external;
+
+isolated function initWorkerPool(WorkerPoolConfig config) returns Error? = @java:Method {
+    'class: "io.ballerina.lib.data.yaml.io.DataReaderThreadPool"
+} external;
+
+isolated function initDocumentCache(DocumentCacheConfig config) returns Error? = @java:Method {
+    'class: "io.ballerina.lib.data.yaml.cache.DocumentCache"
+} external;
@@ -203,3 +203,59 @@ isolated function testUnionWithIntersection() returns error? {
     test:assertTrue(val is readonly & int[]);
     test:assertEquals(val, [1, 2, 3]);
 }
+
+type CircleShape record {|
+    "circle" kind;
+    decimal size;
+|};
+
+type SquareShape record {|
+    "square" kind;
+    decimal size;
+|};
+
+type NamedShape record {|
+    string kind;
+    decimal size;
+|};
+
+@test:Config {
+    groups: ["Union"]
+}
+isolated function testUnionOfRecordsWithDiscriminator() returns error? {
+    CircleShape|SquareShape val1 = check parseString("kind: square\nsize: 2.5");
+    test:assertTrue(val1 is SquareShape);
+    test:assertEquals(val1, {kind: "square", size: 2.5d});
+
+    CircleShape|SquareShape val2 = check parseString("kind: circle\nsize: 1");
+    test:assertTrue(val2 is CircleShape);
+
+    CircleShape|SquareShape|Error val3 = parseString("kind: triangle\nsize: 1");
+    test:assertTrue(val3 is Error);
+}
+
+@test:Config {
+    groups: ["Union"]
+}
+isolated function testUnionOfRecordsWithMismatchingSingletonField() returns error? {
+    CircleShape|NamedShape val1 = check parseString("kind: triangle\nsize: 3");
+    test:assertTrue(val1 is NamedShape);
+    test:assertEquals(val1, {kind: "triangle", size: 3d});
+
+    CircleShape|NamedShape val2 = check parseString("kind: circle\nsize: 3");
+    test:assertTrue(val2 is CircleShape);
+}
+
+type CountedShape record {|
+    3|4 sides;
+    decimal size;
+|};
+
+@test:Config {
+    groups: ["Union"]
+}
+isolated function testUnionOfRecordsWithNumericSingletonField() returns error? {
+    CountedShape|NamedShape val = check parseString("sides: 4\nsize: 2");
+    test:assertTrue(val is CountedShape);
+    test:assertEquals(val, {sides: 4, size: 2d});
+}
@@ -87,3 +87,124 @@ type ProductDetails record {
         string currency;
     } shopping_cart;
 };
+
+@test:Config
+isolated function testMergeKeyWithAnydataExpectedType() returns error? {
+    string content = check io:fileReadString(ANCHORS_TEST_PATH + "anchor_test_3.yaml");
+    anydata result = check parseString(content);
+    final anydata & readonly expectedResult = {
+        "defaults": {"image": "alpine", "restart": "always", "ports": [80]},
+        "labels": {"tier": "backend", "restart": "on-failure"},
+        "web": {"image": "alpine", "restart": "never", "ports": [80]},
+        "worker": {"tier": "backend", "restart": "on-failure", "image": "alpine", "ports": [80], "replicas": 2}
+    };
+    test:assertEquals(result, expectedResult);
+}
+
+@test:Config
+isolated function testMergeKeyWithRecordAsExpectedType() returns error? {
+    string content = check io:fileReadString(ANCHORS_TEST_PATH + "anchor_test_3.yaml");
+    ServiceDetails result = check parseString(content);
+    test:assertEquals(result.web, {image: "alpine", restart: "never", ports: [80]});
+    test:assertEquals(result.worker, {image: "alpine", restart: "on-failure", ports: [80], replicas: 2});
+
+    ServiceDetails & readonly readonlyResult = check parseString(content);
+    test:assertEquals(readonlyResult.web, {image: "alpine", restart: "never", ports: [80]});
+}
+
+@test:Config
+isolated function testMergeKeyWithInvalidValue() {
+    anydata|Error result = parseString("base: &base 1\nderived:\n  <<: *base\n");
+    test:assertTrue(result is Error);
+}
+
+@test:Config
+isolated function testMergeKeyWithMappingInPlace() returns error? {
+    string content = string `
+base:
+  <<: [{name: John, age: 30}, {age: 40, city: Colombo}]
+  name: Doe`;
+    map<map<anydata>> result = check parseString(content);
+    test:assertEquals(result, {base: {name: "Doe", age: 30, city: "Colombo"}});
+
+    json transcoded = check (check transcodeToJsonString(content)).fromJsonString();
+    test:assertEquals(transcoded, result.toJson());
+}
+
+type ReadonlyMergedService record {|
+    map<json> defaults;
+    map<json> & readonly web;
+|};
+
+@test:Config
+isolated function testMergeKeyWithReadonlyExpectedType() returns error? {
+    string content = check io:fileReadString(ANCHORS_TEST_PATH + "anchor_test_3.yaml");
+    ReadonlyMergedService result = check parseString(content);
+    test:assertTrue(result.web is readonly);
+    json ports = result.defaults["ports"];
+    test:assertFalse(ports is readonly);
+    json[] portList = check ports.ensureType();
+    portList.push(443);
+    test:assertEquals(result.defaults["ports"], [80, 443]);
+    test:assertEquals(result.web, {image: "alpine", restart: "never", ports: [80]});
+}
+
+type ReadonlyDefaultsService record {|
+    map<json> & readonly defaults;
+    map<json> web;
+|};
+
+@test:Config
+isolated function testMergeKeyWithReadonlyAnchor() returns error? {
+    string content = check io:fileReadString(ANCHORS_TEST_PATH + "anchor_test_3.yaml");
+    ReadonlyDefaultsService result = check parseString(content);
+    test:assertTrue(result.defaults is readonly);
+    json ports = result.web["ports"];
+    test:assertFalse(ports is readonly);
+    json[] portList = check ports.ensureType();
+    portList.push(443);
+    result.web["replicas"] = 2;
+    test:assertEquals(result.web, {image: "alpine", restart: "never", ports: [80, 443], replicas: 2});
+    test:assertEquals(result.defaults, {image: "alpine", restart: "always", ports: [80]});
+}
+
+type RenamedBaseService record {|
+    @Name {
+        value: "image-name"
+    }
+    string imageName;
+    int replicas;
+|};
+
+type RenamedServices record {|
+    RenamedBaseService base;
+    map<anydata> derived;
+|};
+
+@test:Config
+isolated function testMergeKeyWithRenamedFields() returns error? {
+    string content = string `
+base: &base
+  image-name: alpine
+  replicas: 1
+  restart: always
+derived:
+  <<: *base
+  replicas: 2`;
+    RenamedServices result = check parseString(content);
+    test:assertEquals(result.base, {imageName: "alpine", replicas: 1});
+    test:assertEquals(result.derived, {"image-name": "alpine", replicas: 2, restart: "always"});
+}
+
+type Service record {|
+    string image;
+    string restart;
+    int[] ports;
+    int replicas?;
+|};
+
+type ServiceDetails record {
+    Service defaults;
+    Service web;
+    Service worker;
+};
@@ -0,0 +1,137 @@
+// Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/test;
+
+type IncrementalService record {|
+    string name;
+    int port;
+    string[] hosts;
+|};
+
+@test:Config
+function testIncrementalParserEdit() returns error? {
+    string str = string `name: orders
+port: 8080
+hosts:
+  - a.example.com
+  - b.example.com
+`;
+    IncrementalParser parser = new (str);
+    IncrementalService val1 = check parser.getValue();
+    test:assertEquals(val1, {name: "orders", port: 8080, hosts: ["a.example.com", "b.example.com"]});
+
+    int portIndex = <int>str.indexOf("8080");
+    check parser.edit(portIndex, portIndex + 4, "9090");
+    IncrementalService val2 = check parser.getValue();
+    test:assertEquals(val2, {name: "orders", port: 9090, hosts: ["a.example.com", "b.example.com"]});
+
+    string content = parser.getContent();
+    check parser.edit(content.length(), content.length(), "  - c.example.com\n");
+    IncrementalService val3 = check parser.getValue();
+    test:assertEquals(val3.hosts, ["a.example.com", "b.example.com", "c.example.com"]);
+    test:assertEquals(parser.getContent(), content + "  - c.example.com\n");
+}
+
+@test:Config
+function testIncrementalParserEditTopLevelKeys() returns error? {
+    IncrementalParser parser = new ("a: 1\nb: 2\n");
+    check parser.edit(5, 5, "c:\n  d: 3\n");
+    json val1 = check parser.getValue();
+    test:assertEquals(val1, {a: 1, c: {d: 3}, b: 2});
+
+    check parser.edit(0, 5, "");
+    json val2 = check parser.getValue();
+    test:assertEquals(val2, {c: {d: 3}, b: 2});
+}
+
+@test:Config
+function testIncrementalParserWithAnchors() returns error? {
+    IncrementalParser parser = new ("base: &base 1\nref: *base\n");
+    check parser.edit(12, 13, "2");
+    json val = check parser.getValue();
+    test:assertEquals(val, {base: 2, ref: 2});
+}
+
+@test:Config
+function testIncrementalParserNegative() returns error? {
+    IncrementalParser parser = new ("a: 1\nb: 2\n");
+    test:assertTrue(parser.edit(3, 20, "") is Error);
+
+    check parser.edit(5, 9, "a: 3");
+    json|Error val1 = parser.getValue();
+    test:assertTrue(val1 is Error);
+
+    check parser.edit(5, 9, "b: 3");
+    json val2 = check parser.getValue();
+    test:assertEquals(val2, {a: 1, b: 3});
+}
+
+type VersionedService record {|
+    string name;
+    string version;
+    decimal ratio;
+|};
+
+@test:Config
+function testIncrementalParserWithScalarsOfTargetType() returns error? {
+    IncrementalParser parser = new ("name: orders\nversion: 1.10\nratio: 0.50\n");
+    VersionedService val1 = check parser.getValue();
+    VersionedService expected1 = check parseString(parser.getContent());
+    test:assertEquals(val1, expected1);
+    test:assertEquals(val1.version, "1.10");
+
+    check parser.edit(22, 26, "2.20");
+    VersionedService val2 = check parser.getValue();
+    VersionedService expected2 = check parseString(parser.getContent());
+    test:assertEquals(val2, expected2);
+    test:assertEquals(val2.version, "2.20");
+}
+
+@test:Config
+function testIncrementalParserWithReadonlyTarget() returns error? {
+    IncrementalParser parser = new ("a:\n  b: [1, 2]\nc: 3\n");
+    map<json> & readonly val1 = check parser.getValue();
+    test:assertEquals(val1, {a: {b: [1, 2]}, c: 3});
+
+    map<json> val2 = check parser.getValue();
+    test:assertFalse(val2 is readonly);
+    map<json> a = check val2["a"].ensureType();
+    json[] b = check a["b"].ensureType();
+    b.push(3);
+
+    map<json> val3 = check parser.getValue();
+    test:assertEquals(val3, {a: {b: [1, 2]}, c: 3});
+    test:assertEquals(val1, {a: {b: [1, 2]}, c: 3});
+}
+
+@test:Config
+function testIncrementalParserWithPropertyIndicatorsInScalars() returns error? {
+    string content = string `msg: Hello!
+terms: a & b # see *notes
+quoted: "*x"
+single: '&y'
+`;
+    IncrementalParser parser = new (content);
+    map<json> val1 = check parser.getValue();
+    test:assertEquals(val1, {msg: "Hello!", terms: "a & b", quoted: "*x", single: "&y"});
+
+    check parser.edit(5, 11, "Bye!");
+    map<json> val2 = check parser.getValue();
+    map<json> expected2 = check parseString(parser.getContent());
+    test:assertEquals(val2, expected2);
+    test:assertEquals(val2["msg"], "Bye!");
+}
@@ -0,0 +1,62 @@
+// Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/test;
+
+@test:Config
+isolated function testIndexDocuments() returns error? {
+    string str = string `# services
+name: orders
+port: 8080
+---
+name: payments
+port: 9090
+...
+%YAML 1.2
+---
+name: users
+`;
+    byte[] content = str.toBytes();
+    DocumentBoundary[] boundaries = indexDocuments(content);
+    test:assertEquals(boundaries.length(), 3);
+    test:assertEquals(boundaries[0], {startOffset: 11, endOffset: 35, startLine: 2, endLine: 3});
+    test:assertEquals(boundaries[1].startLine, 4);
+    test:assertEquals(boundaries[1].endLine, 6);
+    test:assertEquals(boundaries[2].startLine, 8);
+    test:assertEquals(boundaries[2].endLine, 10);
+
+    json[] documents = [];
+    foreach DocumentBoundary boundary in boundaries {
+        json document = check parseBytes(content.slice(boundary.startOffset, boundary.endOffset));
+        documents.push(document);
+    }
+    test:assertEquals(documents, [
+        {name: "orders", port: 8080},
+        {name: "payments", port: 9090},
+        {name: "users"}
+    ]);
+}
+
+@test:Config
+isolated function testIndexDocumentsWithEmptyDocuments() {
+    test:assertEquals(indexDocuments("".toBytes()), []);
+    test:assertEquals(indexDocuments("# comment\n".toBytes()).length(), 0);
+    DocumentBoundary[] boundaries = indexDocuments("---\n---\nname: a".toBytes());
+    test:assertEquals(boundaries, [
+        {startOffset: 0, endOffset: 4, startLine: 1, endLine: 1},
+        {startOffset: 4, endOffset: 15, startLine: 2, endLine: 3}
+    ]);
+}
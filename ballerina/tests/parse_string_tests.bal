@@ -124,6 +124,18 @@ isolated function testNestedYamlStringToRecord() returns error? {
     test:assertEquals(employees2[1].projects[1].name, "Project D");
 }
 
+@test:Config
+isolated function testParseFile() returns error? {
+    record {|string name; Employee[] employees;|} result = check parseFile(FILE_PATH + "nested_1.yaml");
+    string content = check io:fileReadString(FILE_PATH + "nested_1.yaml");
+    record {|string name; Employee[] employees;|} expected = check parseString(content);
+    test:assertEquals(result, expected);
+
+    json|Error result2 = parseFile(FILE_PATH + "not_found.yaml");
+    test:assertTrue(result2 is Error);
+    test:assertTrue((<Error>result2).message().startsWith("Error occurred while reading the file"));
+}
+
 @test:Config
 isolated function testNestedYamlStringToRecordWithProjection() returns error? {
     string content = check io:fileReadString(FILE_PATH + "nested_1.yaml");
@@ -1084,3 +1096,35 @@ isolated function testEmptyMappingKey() returns error? {
     anydata result2 = check parseString("{: value}");
     test:assertEquals(result2, expectedValue);
 }
+
+@test:Config
+isolated function testParseStringToPrimitiveArrayFields() returns error? {
+    string str = string `
+ints: [1, -2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18]
+floats:
+  - 1.5
+  - 2
+  - -3.25
+decimals: [1.10, 2, 3.5]
+bytes: [0, 127, 255]
+flags: [true, false, true]`;
+    record {|int[] ints; float[] floats; decimal[] decimals; byte[] bytes; boolean[] flags;|} val =
+        check parseString(str);
+    test:assertEquals(val.ints, [1, -2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18]);
+    test:assertEquals(val.floats, [1.5, 2.0, -3.25]);
+    test:assertEquals(val.decimals, [1.10d, 2d, 3.5d]);
+    test:assertEquals(val.bytes, [0, 127, 255]);
+    test:assertEquals(val.flags, [true, false, true]);
+
+    string str2 = string `
+base: &base 5
+ints: [1, 2, *base, !!int 7, 8]`;
+    record {|int base; int[] ints;|} val2 = check parseString(str2);
+    test:assertEquals(val2.ints, [1, 2, 5, 7, 8]);
+
+    record {|byte[] bytes;|}|Error val3 = parseString("bytes: [1, 2, 256]");
+    test:assertTrue(val3 is Error);
+
+    record {|int[] ints;|}|Error val4 = parseString("ints: [1, 2, 3.5]");
+    test:assertTrue(val4 is Error);
+}
@@ -0,0 +1,91 @@
+// Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/test;
+
+type CachedRoute record {|
+    string path;
+    string target;
+    int weight;
+|};
+
+@test:Config
+isolated function testParseStringWithCache() returns error? {
+    string str = string `
+path: /orders
+target: orders-service
+weight: 10`;
+    DocumentCacheStatistics initialStatistics = getDocumentCacheStatistics();
+    CachedRoute & readonly val1 = check parseStringWithCache(str);
+    CachedRoute & readonly val2 = check parseStringWithCache(str);
+    test:assertEquals(val1, {path: "/orders", target: "orders-service", weight: 10});
+    test:assertTrue(val1 === val2);
+
+    DocumentCacheStatistics statistics = getDocumentCacheStatistics();
+    test:assertEquals(statistics.misses - initialStatistics.misses, 1);
+    test:assertEquals(statistics.hits - initialStatistics.hits, 1);
+
+    // Different target types and options do not share the cached value
+    json & readonly val3 = check parseStringWithCache(str);
+    test:assertEquals(val3, {path: "/orders", target: "orders-service", weight: 10});
+    map<string> & readonly val4 = check parseStringWithCache(str, {schema: FAILSAFE_SCHEMA});
+    test:assertEquals(val4, {path: "/orders", target: "orders-service", weight: "10"});
+    statistics = getDocumentCacheStatistics();
+    test:assertEquals(statistics.misses - initialStatistics.misses, 3);
+
+    byte[] bytes = str.toBytes();
+    CachedRoute & readonly val5 = check parseBytesWithCache(bytes);
+    CachedRoute & readonly val6 = check parseBytesWithCache(bytes);
+    test:assertEquals(val5, val1);
+    test:assertTrue(val5 === val6);
+}
+
+@test:Config
+isolated function testParseStringWithCacheForInvalidDocument() {
+    string str = string `
+path: /orders
+weight: ten`;
+    DocumentCacheStatistics initialStatistics = getDocumentCacheStatistics();
+    CachedRoute & readonly|Error val1 = parseStringWithCache(str);
+    CachedRoute & readonly|Error val2 = parseStringWithCache(str);
+    test:assertTrue(val1 is Error);
+    test:assertTrue(val2 is Error);
+    test:assertEquals(getDocumentCacheStatistics().misses - initialStatistics.misses, 2);
+}
+
+@test:Config
+isolated function testParseStringWithCacheForDocumentsOfSameSize() returns error? {
+    CachedRoute & readonly val1 = check parseStringWithCache("path: /items\ntarget: items-service\nweight: 10");
+    CachedRoute & readonly val2 = check parseStringWithCache("path: /items\ntarget: items-service\nweight: 20");
+    test:assertEquals(val1.weight, 10);
+    test:assertEquals(val2.weight, 20);
+    CachedRoute & readonly val3 = check parseStringWithCache("path: /items\ntarget: items-service\nweight: 10");
+    test:assertTrue(val1 === val3);
+}
+
+@test:Config {
+    dependsOn: [testParseStringWithCache, testParseStringWithCacheForInvalidDocument,
+        testParseStringWithCacheForDocumentsOfSameSize]
+}
+isolated function testClearDocumentCache() returns error? {
+    string str = "path: /users\ntarget: users-service\nweight: 5";
+    CachedRoute & readonly val1 = check parseStringWithCache(str);
+    clearDocumentCache();
+    test:assertEquals(getDocumentCacheStatistics().size, 0);
+    CachedRoute & readonly val2 = check parseStringWithCache(str);
+    test:assertEquals(val1, val2);
+    test:assertFalse(val1 === val2);
+}
@@ -296,3 +296,115 @@ type DeploymentType record {
         } template;
     } spec;
 };
+
+@test:Config {
+    dataProvider: dataForParallelStreamParsing
+}
+isolated function testParallelStreamParsing(string fileName, typedesc<anydata> targetType) returns error? {
+    string content = check io:fileReadString(YAML_STREAM_TEST_PATH + fileName);
+    anydata expected = check parseString(content, {}, targetType);
+    anydata result = check parseString(content, {enableParallelStream: true}, targetType);
+    test:assertEquals(result, expected);
+
+    anydata bytesResult = check parseBytes(content.toBytes(), {enableParallelStream: true}, targetType);
+    test:assertEquals(bytesResult, expected);
+}
+
+function dataForParallelStreamParsing() returns [string, typedesc<anydata>][] => [
+    ["stream_1.yaml", anydata],
+    ["stream_1.yaml", json],
+    ["stream_1.yaml", ExpectedType],
+    ["stream_1.yaml", UnionType[]]
+];
+
+@test:Config
+isolated function testParallelStreamParsingWithInvalidDocument() {
+    string content = string `a: 1
+---
+b: [1, 2
+---
+c: 3`;
+    anydata|Error expected = parseString(content);
+    anydata|Error result = parseString(content, {enableParallelStream: true});
+    test:assertTrue(result is Error);
+    test:assertEquals((<Error>result).message(), (<Error>expected).message());
+}
+
+@test:Config
+isolated function testParallelStreamParsingWithAnchorRedefinition() {
+    string content = string `a: &x 1
+---
+b: &x 2
+---
+c: *x`;
+    anydata|Error expected = parseString(content, {allowAnchorRedefinition: false});
+    anydata|Error result = parseString(content, {allowAnchorRedefinition: false, enableParallelStream: true});
+    test:assertTrue(expected is Error);
+    test:assertTrue(result is Error);
+    test:assertEquals((<Error>result).message(), (<Error>expected).message());
+}
+
+@test:Config
+isolated function testYamlStreamParsingWithReadAhead() returns error? {
+    string filePath = YAML_STREAM_TEST_PATH + "stream_1.yaml";
+    stream<io:Block, io:Error?> streamResult = check io:fileReadBlocksAsStream(filePath, 64);
+    anydata expected = check parseStream(streamResult);
+
+    streamResult = check io:fileReadBlocksAsStream(filePath, 64);
+    anydata result = check parseStream(streamResult, {readAheadBlockCount: 4});
+    test:assertEquals(result, expected);
+}
+
+class FailingBlockStream {
+    private boolean blockSent = false;
+
+    public isolated function next() returns record {|byte[] value;|}|error? {
+        if self.blockSent {
+            return error("block stream failure");
+        }
+        self.blockSent = true;
+        return {value: "a: 1\nb: 2\n".toBytes()};
+    }
+}
+
+@test:Config
+function testYamlStreamParsingWithStreamError() {
+    stream<byte[], error?> content = new (new FailingBlockStream());
+    anydata|Error result = parseStream(content);
+    test:assertTrue(result is Error);
+    test:assertEquals((<Error>result).message(), "Error occurred while reading the stream: block stream failure");
+}
+
+@test:Config
+function testYamlStreamParsingWithStreamErrorAndReadAhead() {
+    stream<byte[], error?> content = new (new FailingBlockStream());
+    anydata|Error result = parseStream(content, {readAheadBlockCount: 2});
+    test:assertTrue(result is Error);
+    test:assertEquals((<Error>result).message(), "Error occurred while reading the stream: block stream failure");
+}
+
+class ReusedBufferBlockStream {
+    private final string[] blocks = ["a: 1\n", "b: 2\n", "c: 3\n"];
+    private final byte[] buffer = [0, 0, 0, 0, 0];
+    private int index = 0;
+
+    public isolated function next() returns record {|byte[] value;|}? {
+        if self.index == self.blocks.length() {
+            return ();
+        }
+        // The same array is filled with each block
+        byte[] block = self.blocks[self.index].toBytes();
+        foreach int i in 0 ..< block.length() {
+            self.buffer[i] = block[i];
+        }
+        self.index += 1;
+        return {value: self.buffer};
+    }
+}
+
+@test:Config
+function testYamlStreamParsingWithReusedBufferAndReadAhead() returns error? {
+    stream<byte[], error?> content = new (new ReusedBufferBlockStream());
+    anydata result = check parseStream(content, {readAheadBlockCount: 3});
+    test:assertEquals(result, {a: 1, b: 2, c: 3});
+}
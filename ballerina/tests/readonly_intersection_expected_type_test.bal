@@ -256,3 +256,83 @@ function readonlyIntersectionTestDataForParseString() returns [string, typedesc<
         [string `{"id": 12, "health": {"student": {"name": "John", "age": 30, "height": 1.8}, "address": "this is address", "count": 14}}`, Rec5, expectedResults[36]]
     ];
 }
+
+type ReadonlyFieldWithAlias record {|
+    int[] & readonly fixed;
+    int[] values;
+    Rec1ReadOnly student;
+|};
+
+@test:Config
+isolated function testReadonlyFieldReferredByAlias() returns error? {
+    string str = string `
+fixed: &fixed [1, 2, 3]
+values: *fixed
+student:
+  name: John
+  age: 30
+  height: 1.8`;
+    ReadonlyFieldWithAlias val = check parseString(str);
+    anydata fixed = val.fixed;
+    test:assertTrue(fixed is readonly);
+    anydata student = val.student;
+    test:assertTrue(student is readonly);
+    val.values.push(4);
+    test:assertEquals(val.fixed, [1, 2, 3]);
+    test:assertEquals(val.values, [1, 2, 3, 4]);
+}
+
+type ReadonlyJsonFieldWithAlias record {|
+    json mutable;
+    json & readonly fixed;
+|};
+
+@test:Config
+isolated function testReadonlyJsonFieldReferredByAlias() returns error? {
+    string str = string `
+mutable: &value
+  name: John
+  tags: [a, b]
+fixed: *value`;
+    ReadonlyJsonFieldWithAlias val = check parseString(str);
+    json fixed = val.fixed;
+    test:assertTrue(fixed is readonly);
+    json mutable = val.mutable;
+    test:assertFalse(mutable is readonly);
+    map<json> mutableMap = check mutable.ensureType();
+    mutableMap["name"] = "Doe";
+    json[] tags = check mutableMap["tags"].ensureType();
+    tags.push("c");
+    test:assertEquals(val.mutable, {name: "Doe", tags: ["a", "b", "c"]});
+    test:assertEquals(val.fixed, {name: "John", tags: ["a", "b"]});
+}
+
+type ReadonlyAnchorWithMutableAlias record {|
+    json & readonly fixed;
+    json values;
+    map<json> mapping;
+|};
+
+@test:Config
+isolated function testReadonlyAnchorReferredByMutableAlias() returns error? {
+    string str = string `
+fixed: &value
+  name: John
+  tags: [a, b]
+values: *value
+mapping: *value`;
+    ReadonlyAnchorWithMutableAlias val = check parseString(str);
+    json fixed = val.fixed;
+    test:assertTrue(fixed is readonly);
+    json values = val.values;
+    test:assertFalse(values is readonly);
+    map<json> valueMap = check values.ensureType();
+    json[] tags = check valueMap["tags"].ensureType();
+    tags.push("c");
+    json[] mappingTags = check val.mapping["tags"].ensureType();
+    mappingTags.push("d");
+    val.mapping["name"] = "Doe";
+    test:assertEquals(val.fixed, {name: "John", tags: ["a", "b"]});
+    test:assertEquals(val.values, {name: "John", tags: ["a", "b", "c"]});
+    test:assertEquals(val.mapping, {name: "Doe", tags: ["a", "b", "d"]});
+}
@@ -53,9 +53,44 @@ function dataToConvertAnydataValuesToYamlString() returns [anydata, string, Writ
     [j2, "test_9.yaml", {isStream: true}],
     [j3, "test_10.yaml", {}],
     [j3, "test_11.yaml", {flowStyle: true}],
-    [j3, "test_12.yaml", {isStream: true}]
+    [j3, "test_12.yaml", {isStream: true}],
+    [j2, "test_9.yaml", {isStream: true, enableParallelStream: true}],
+    [j3, "test_12.yaml", {isStream: true, enableParallelStream: true}],
+    [j1, "test_1.yaml", {enableParallelStream: true}]
 ];
 
+@test:Config {
+    dataProvider: dataToConvertAnydataValuesToYamlString
+}
+isolated function testJsonStringToYamlString(anydata inputValue, string expectedFile, WriteConfig conf)
+        returns error? {
+    string expectedResultPath = TO_YAML_STRING_DATA + expectedFile;
+    string value = check jsonStringToYamlString(inputValue.toJsonString(), conf);
+    string expectedValue = check io:fileReadString(expectedResultPath);
+    test:assertEquals(value, expectedValue);
+}
+
+@test:Config
+isolated function testJsonStringToYamlStringNegative() {
+    string|Error value = jsonStringToYamlString("{\"name\": \"Ballerina\",}");
+    test:assertTrue(value is Error);
+    test:assertTrue((<Error>value).message().startsWith("invalid JSON"));
+}
+
+@test:Config
+isolated function testJsonStringToYamlStringWithTrailingContent() {
+    string|Error value = jsonStringToYamlString("{\"a\": 1} garbage");
+    test:assertTrue(value is Error);
+    test:assertTrue((<Error>value).message().startsWith("invalid JSON: unexpected content after the JSON value"));
+
+    value = jsonStringToYamlString("1 2");
+    test:assertTrue(value is Error);
+    test:assertTrue((<Error>value).message().startsWith("invalid JSON: unexpected content after the JSON value"));
+
+    value = jsonStringToYamlString("[1, 2] [3]", {isStream: true});
+    test:assertTrue(value is Error);
+}
+
 isolated function testEmptySequenceOutput() returns error? {
     string expectedValue = "-";
     string value = check toYamlString([]);
@@ -0,0 +1,72 @@
+// Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/test;
+
+@test:Config
+isolated function testTranscodeToJsonString() returns error? {
+    string str = string `name: "orders"
+port: 8080
+ratio: 0.5
+enabled: true
+quoted: "8080"
+empty:
+hosts: [a.example.com, b.example.com]
+nested:
+  key: value`;
+    string result = check transcodeToJsonString(str);
+    json expected = check parseString(str);
+    test:assertEquals(check result.fromJsonString(), expected);
+}
+
+@test:Config
+isolated function testTranscodeToJsonStringWithAliasesAndMergeKeys() returns error? {
+    string str = string `defaults: &defaults
+  image: alpine
+  restart: always
+labels: &labels
+  tier: backend
+web:
+  <<: [*defaults, *labels]
+  restart: never
+copy: *defaults`;
+    string result = check transcodeToJsonString(str);
+    test:assertEquals(check result.fromJsonString(), {
+        defaults: {image: "alpine", restart: "always"},
+        labels: {tier: "backend"},
+        web: {restart: "never", image: "alpine", tier: "backend"},
+        copy: {image: "alpine", restart: "always"}
+    });
+}
+
+@test:Config
+isolated function testTranscodeToJsonStringWithStreams() returns error? {
+    string result = check transcodeToJsonString("---\na: 1\n---\nb: \"two\"\n");
+    test:assertEquals(check result.fromJsonString(), [{a: 1}, {b: "two"}]);
+    test:assertEquals(check transcodeToJsonString(""), "null");
+}
+
+@test:Config
+isolated function testTranscodeToJsonStringNegative() {
+    string|Error result1 = transcodeToJsonString("a: 1\na: 2");
+    test:assertTrue(result1 is Error);
+
+    string|Error result2 = transcodeToJsonString("a: *missing");
+    test:assertTrue(result2 is Error);
+
+    string|Error result3 = transcodeToJsonString("a: &scalar 1\nb:\n  <<: *scalar");
+    test:assertTrue(result3 is Error);
+}
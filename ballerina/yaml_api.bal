@@ -65,6 +65,151 @@ public isolated function parseStream(stream<byte[], error?> s,
         Options options = {}, typedesc<anydata> t = <>)
     returns t|Error = @java:Method {'class: "io.ballerina.lib.data.yaml.Native"} external;
 
+# Converts YAML string to a JSON string without creating the intermediate anydata value. Aliases are expanded and
+# the entries of the mappings referred by merge keys (`<<`) are added to the merging mapping. A YAML stream with
+# multiple documents is converted to a JSON array. The data projection options are not applicable.
+#
+# ```ballerina
+# string value = check yaml:transcodeToJsonString("name: Ballerina\nversion: 2201");
+# value ⇒ {"name":"Ballerina","version":2201}
+# ```
+#
+# + s - Source string value
+# + options - Options to be used for parsing the YAML string
+# + return - On success, returns the JSON string, else returns an `yaml:Error`
+public isolated function transcodeToJsonString(string s, Options options = {}) returns string|Error = @java:Method {
+    'class: "io.ballerina.lib.data.yaml.Native"
+} external;
+
+# Returns the location of each document in a YAML stream without parsing the documents. The bytes in the range of
+# a document can be parsed on their own with `parseBytes`.
+#
+# ```ballerina
+# byte[] content = "name: a\n---\nname: b\n".toBytes();
+# yaml:DocumentBoundary[] boundaries = yaml:indexDocuments(content);
+# json value = check yaml:parseBytes(content.slice(boundaries[1].startOffset, boundaries[1].endOffset));
+# value ⇒ {"name": "b"}
+# ```
+#
+# + s - Source byte[] value
+# + return - Locations of the documents in the stream order
+public isolated function indexDocuments(byte[] s) returns DocumentBoundary[] = @java:Method {
+    'class: "io.ballerina.lib.data.yaml.Native"
+} external;
+
+# Converts the YAML content of a file to subtype of anydata. The file is memory mapped and read without loading
+# the whole content into memory.
+#
+# ```ballerina
+# json value = check yaml:parseFile("config.yaml");
+# value ⇒ {"name": "Ballerina"}
+# ```
+#
+# + path - Path of the UTF-8 encoded YAML file
+# + options - Options to be used for filtering in the projection
+# + t - Target type
+# + return - On success, returns the given target type value, else returns an `yaml:Error`
+public isolated function parseFile(string path,
+        Options options = {}, typedesc<anydata> t = <>)
+    returns t|Error = @java:Method {'class: "io.ballerina.lib.data.yaml.Native"} external;
+
+# Converts YAML string to a readonly subtype of anydata, reusing the value parsed earlier for the same string,
+# options and target type. The parsed values are retained as configured by the `documentCacheConfig` configurable.
+#
+# ```ballerina
+# json & readonly value = check yaml:parseStringWithCache("name: Ballerina");
+# value ⇒ {"name": "Ballerina"}
+# ```
+#
+# + s - Source string value
+# + options - Options to be used for filtering in the projection
+# + t - Target type
+# + return - On success, returns the given target type value, else returns an `yaml:Error`
+public isolated function parseStringWithCache(string s,
+        Options options = {}, typedesc<anydata & readonly> t = <>)
+    returns t|Error = @java:Method {'class: "io.ballerina.lib.data.yaml.Native"} external;
+
+# Converts YAML byte[] to a readonly subtype of anydata, reusing the value parsed earlier for the same bytes,
+# options and target type. The parsed values are retained as configured by the `documentCacheConfig` configurable.
+#
+# ```ballerina
+# byte[] content = "name: Ballerina".toBytes();
+# json & readonly value = check yaml:parseBytesWithCache(content);
+# value ⇒ {"name": "Ballerina"}
+# ```
+#
+# + s - Source byte[] value
+# + options - Options to be used for filtering in the projection
+# + t - Target type
+# + return - On success, returns the given target type value, else returns an `yaml:Error`
+public isolated function parseBytesWithCache(byte[] s,
+        Options options = {}, typedesc<anydata & readonly> t = <>)
+    returns t|Error = @java:Method {'class: "io.ballerina.lib.data.yaml.Native"} external;
+
+# Returns the statistics of the cache used by `parseStringWithCache` and `parseBytesWithCache`.
+#
+# + return - Document cache statistics
+public isolated function getDocumentCacheStatistics() returns DocumentCacheStatistics = @java:Method {
+    'class: "io.ballerina.lib.data.yaml.cache.DocumentCache"
+} external;
+
+# Removes all the documents from the cache used by `parseStringWithCache` and `parseBytesWithCache`.
+public isolated function clearDocumentCache() = @java:Method {
+    'class: "io.ballerina.lib.data.yaml.cache.DocumentCache"
+} external;
+
+# Represents a YAML document which is edited over time. An edit re-parses only the top-level mapping entries it
+# touches, while the rest of the document keeps the values parsed earlier. The entries parsed earlier are reused
+# only when the target type is `json`, `anydata` or a map of them. For any other target type, such as a record,
+# and for documents with anchors, aliases or tags, `getValue` parses the whole document.
+#
+# ```ballerina
+# yaml:IncrementalParser parser = new ("name: Ballerina\nversion: 1\n");
+# check parser.edit(25, 26, "2");
+# json value = check parser.getValue();
+# value ⇒ {"name": "Ballerina", "version": 2}
+# ```
+public class IncrementalParser {
+
+    # Initializes the parser with the given YAML document.
+    #
+    # + s - Source string value
+    # + options - Options to be used for filtering in the projection
+    public isolated function init(string s, Options options = {}) {
+        initIncrementalParser(self, s, options);
+    }
+
+    # Replaces the characters in the range [`startIndex`, `endIndex`) of the document with the given text.
+    #
+    # + startIndex - Index of the first character to be replaced
+    # + endIndex - Index after the last character to be replaced
+    # + text - Text to be inserted
+    # + return - An `yaml:Error` if the range is invalid
+    public isolated function edit(int startIndex, int endIndex, string text) returns Error? = @java:Method {
+        'class: "io.ballerina.lib.data.yaml.parser.IncrementalParser"
+    } external;
+
+    # Converts the current document to subtype of anydata.
+    #
+    # + t - Target type
+    # + return - On success, returns the given target type value, else returns an `yaml:Error`
+    public isolated function getValue(typedesc<anydata> t = <>) returns t|Error = @java:Method {
+        'class: "io.ballerina.lib.data.yaml.parser.IncrementalParser"
+    } external;
+
+    # Returns the current document.
+    #
+    # + return - YAML document with all the edits applied
+    public isolated function getContent() returns string = @java:Method {
+        'class: "io.ballerina.lib.data.yaml.parser.IncrementalParser"
+    } external;
+}
+
+isolated function initIncrementalParser(IncrementalParser parser, string s, Options options) = @java:Method {
+    'class: "io.ballerina.lib.data.yaml.parser.IncrementalParser",
+    name: "initParser"
+} external;
+
 # Converts anydata YAML value to a string.
 #
 # ```ballerina
@@ -82,6 +227,26 @@ public isolated function toYamlString(anydata yamlValue, WriteConfig config = {}
 isolated function toYamlStringArray(anydata yamlValue, WriteConfig config = {})
     returns string[]|Error = @java:Method {'class: "io.ballerina.lib.data.yaml.Native"} external;
 
+# Converts a JSON string to a YAML string without creating the intermediate json value. The output is the same
+# as `toYamlString` for the equivalent json value, except that the numbers are written as in the JSON string.
+# The `enableParallelStream` configuration is not applicable.
+#
+# ```ballerina
+# string value = check yaml:jsonStringToYamlString("{\"name\": \"Ballerina\"}");
+# value ⇒ "name: Ballerina"
+# ```
+#
+# + jsonString - Source JSON string
+# + config - Options used to get desired toString representation
+# + return - On success, returns the YAML string, else returns an `yaml:Error`
+public isolated function jsonStringToYamlString(string jsonString, WriteConfig config = {}) returns string|Error {
+    string[] lines = check jsonStringToYamlStringArray(jsonString, config);
+    return NEW_LINE_CHARACTER.'join(...lines);
+}
+
+isolated function jsonStringToYamlStringArray(string jsonString, WriteConfig config)
+    returns string[]|Error = @java:Method {'class: "io.ballerina.lib.data.yaml.Native"} external;
+
 # Represents the YAML schema available for the parser.
 #
 # + FAILSAFE_SCHEMA - Generic schema that works for any YAML document
@@ -112,6 +277,16 @@ public type Options record {|
     }|false allowDataProjection = {};
     # enableConstraintValidation - Enable or disable constraint validation
     boolean enableConstraintValidation = true;
+    # enableParallelStream - If set, the documents of a YAML stream are parsed concurrently when the expected
+    # type is an open array, `json` or `anydata`, `allowAnchorRedefinition` is `true` and the stream has more
+    # than one document, no directives and no content on the line of a `---` marker. Otherwise the stream is
+    # parsed sequentially. Anchors are scoped to the document they are defined in. If any document fails, the
+    # whole stream is parsed again sequentially, hence the error is the same as without this option.
+    # Not applicable for `parseStream`
+    boolean enableParallelStream = false;
+    # readAheadBlockCount - Maximum number of blocks read ahead from the byte-block stream in the background
+    # while the current block is parsed. Read-ahead is disabled if set to `0`. Only applicable for `parseStream`
+    int readAheadBlockCount = 0;
 |};
 
 # Configurations for writing a YAML document.
@@ -132,6 +307,61 @@ public type WriteConfig record {|
     boolean isStream = false;
     # flowStyle - If set, mappings and sequences will output in flow style
     boolean flowStyle = false;
+    # enableParallelStream - If set along with `isStream`, the documents of the stream are serialized concurrently
+    boolean enableParallelStream = false;
+|};
+
+# Configurations of the worker pool used for the parallel stream processing and the stream read-ahead.
+public type WorkerPoolConfig record {|
+    # corePoolSize - Number of threads kept in the pool even when they are idle
+    int corePoolSize = 0;
+    # maxPoolSize - Maximum number of threads allowed in the pool
+    int maxPoolSize = 50;
+    # keepAliveTime - Time in seconds an idle thread exceeding the core pool size waits for a new task
+    decimal keepAliveTime = 60;
+    # queueCapacity - Number of tasks queued when all the threads are busy. If set to `0`, tasks are handed
+    # off directly to a thread. Tasks which cannot be queued are executed by the caller
+    int queueCapacity = 0;
+    # useVirtualThreads - If set, each task is executed on a new virtual thread and the pool size
+    # configurations are ignored
+    boolean useVirtualThreads = false;
+|};
+
+# Configurations of the cache used by `parseStringWithCache` and `parseBytesWithCache`. The cache retains the
+# parsed readonly values and a SHA-256 digest of each document, but not the content of the documents, hence its
+# memory cost is about the size of the retained values.
+public type DocumentCacheConfig record {|
+    # capacity - Maximum number of parsed documents retained. The documents are spread over up to 16 segments
+    # sharing the capacity, and the least recently used document of a segment is evicted once its share is
+    # exceeded. The cache is disabled if set to `0`
+    int capacity = 128;
+    # maxDocumentSize - Maximum number of characters of a string, or bytes of a byte[], to be cached. Larger
+    # documents are parsed without being cached
+    int maxDocumentSize = 1048576;
+|};
+
+# Represents the statistics of the cache used by `parseStringWithCache` and `parseBytesWithCache`.
+public type DocumentCacheStatistics record {|
+    # hits - Number of parses served from the cache
+    int hits;
+    # misses - Number of parses not found in the cache
+    int misses;
+    # evictions - Number of documents evicted as the capacity is exceeded
+    int evictions;
+    # size - Number of documents in the cache
+    int size;
+|};
+
+# Represents the location of a document in a YAML stream.
+public type DocumentBoundary record {|
+    # startOffset - Index of the first byte of the document
+    int startOffset;
+    # endOffset - Index after the last byte of the document
+    int endOffset;
+    # startLine - Line number of the first line of the document, starting from 1
+    int startLine;
+    # endLine - Line number of the last line of the document, starting from 1
+    int endLine;
 |};
 
 # Represents the error type of the ballerina/data.yaml module. This error type represents any error that can occur
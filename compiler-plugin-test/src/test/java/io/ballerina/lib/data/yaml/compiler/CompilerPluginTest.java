@@ -32,6 +32,11 @@ import java.util.List;
 public class CompilerPluginTest {
 
     static final String UNSUPPORTED_TYPE = "unsupported type: type is not supported";
+    static final String UNION_WITHOUT_DISCRIMINATOR = "slow conversion: union of record types without a " +
+            "discriminator is converted by trying each record type in turn, consider adding a required field " +
+            "with a distinct singleton type to each record";
+    static final String UNTYPED_ARRAY_MEMBER = "slow conversion: the type of each member of an array of " +
+            "'anydata' or 'json' is resolved while parsing, consider using a narrower member type";
 
     @Test
     public void testInvalidExpectedUnionType1() {
@@ -175,4 +180,16 @@ public class CompilerPluginTest {
         Assert.assertEquals(errorDiagnosticsList.get(0).diagnosticInfo().messageFormat(), UNSUPPORTED_TYPE);
         Assert.assertEquals(errorDiagnosticsList.get(1).diagnosticInfo().messageFormat(), UNSUPPORTED_TYPE);
     }
+
+    @Test
+    public void testSlowConversionWarnings() {
+        DiagnosticResult diagnosticResult =
+                CompilerPluginTestUtils.loadPackage("sample_package_14").getCompilation().diagnosticResult();
+        List<Diagnostic> warningDiagnosticsList = diagnosticResult.diagnostics().stream()
+                .filter(r -> r.diagnosticInfo().severity().equals(DiagnosticSeverity.WARNING)).toList();
+        Assert.assertEquals(warningDiagnosticsList.size(), 2);
+        Assert.assertEquals(warningDiagnosticsList.get(0).diagnosticInfo().messageFormat(),
+                UNION_WITHOUT_DISCRIMINATOR);
+        Assert.assertEquals(warningDiagnosticsList.get(1).diagnosticInfo().messageFormat(), UNTYPED_ARRAY_MEMBER);
+    }
 }
@@ -0,0 +1,45 @@
+// Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/data.yaml;
+
+type Circle record {|
+    "circle" kind;
+    decimal radius;
+|};
+
+type Square record {|
+    "square" kind;
+    decimal side;
+|};
+
+type User record {|
+    string name;
+    int age;
+|};
+
+type Admin record {|
+    string name;
+    string[] roles;
+|};
+
+public function main() returns error? {
+    string yamlString = "";
+    Circle|Square _ = check yaml:parseString(yamlString);
+    User|Admin _ = check yaml:parseString(yamlString);
+    anydata[] _ = check yaml:parseString(yamlString);
+    int[] _ = check yaml:parseString(yamlString);
+}
@@ -21,6 +21,7 @@ package io.ballerina.lib.data.yaml.compiler;
 import io.ballerina.tools.diagnostics.DiagnosticSeverity;
 
 import static io.ballerina.tools.diagnostics.DiagnosticSeverity.ERROR;
+import static io.ballerina.tools.diagnostics.DiagnosticSeverity.WARNING;
 
 /**
  * Diagnostic codes for Yaml data compiler plugin.
@@ -29,7 +30,12 @@ import static io.ballerina.tools.diagnostics.DiagnosticSeverity.ERROR;
  */
 public enum YamlDataDiagnosticCodes {
     DUPLICATE_FIELD("YAML_ERROR_201", "invalid field: duplicate field found", ERROR),
-    UNSUPPORTED_TYPE("YAML_ERROR_202", "unsupported type: type is not supported", ERROR);
+    UNSUPPORTED_TYPE("YAML_ERROR_202", "unsupported type: type is not supported", ERROR),
+    UNION_WITHOUT_DISCRIMINATOR("YAML_WARNING_201", "slow conversion: union of record types without a " +
+            "discriminator is converted by trying each record type in turn, consider adding a required field " +
+            "with a distinct singleton type to each record", WARNING),
+    UNTYPED_ARRAY_MEMBER("YAML_WARNING_202", "slow conversion: the type of each member of an array of " +
+            "'anydata' or 'json' is resolved while parsing, consider using a narrower member type", WARNING);
 
     private final String code;
     private final String message;
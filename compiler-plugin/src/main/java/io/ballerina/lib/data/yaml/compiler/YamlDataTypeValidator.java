@@ -61,10 +61,12 @@ import io.ballerina.tools.diagnostics.Location;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static io.ballerina.lib.data.yaml.compiler.Constants.BALLERINA;
 import static io.ballerina.lib.data.yaml.compiler.Constants.DATA_YAML;
@@ -193,7 +195,7 @@ public class YamlDataTypeValidator implements AnalysisTask<SyntaxNodeAnalysisCon
         switch (typeSymbol.typeKind()) {
             case UNION -> validateUnionType((UnionTypeSymbol) typeSymbol, ctx);
             case RECORD -> validateRecordType((RecordTypeSymbol) typeSymbol, ctx);
-            case ARRAY -> validateExpectedType(((ArrayTypeSymbol) typeSymbol).memberTypeDescriptor(), ctx);
+            case ARRAY -> validateArrayType((ArrayTypeSymbol) typeSymbol, ctx);
             case TUPLE -> validateTupleType((TupleTypeSymbol) typeSymbol, ctx);
             case TABLE, XML -> reportDiagnosticInfo(ctx, typeSymbol.getLocation(),
                     YamlDataDiagnosticCodes.UNSUPPORTED_TYPE);
@@ -203,6 +205,15 @@ public class YamlDataTypeValidator implements AnalysisTask<SyntaxNodeAnalysisCon
         }
     }
 
+    private void validateArrayType(ArrayTypeSymbol arrayTypeSymbol, SyntaxNodeAnalysisContext ctx) {
+        TypeSymbol memberType = arrayTypeSymbol.memberTypeDescriptor();
+        TypeDescKind memberTypeKind = getRawType(memberType).typeKind();
+        if (memberTypeKind == TypeDescKind.ANYDATA || memberTypeKind == TypeDescKind.JSON) {
+            reportDiagnosticInfo(ctx, arrayTypeSymbol.getLocation(), YamlDataDiagnosticCodes.UNTYPED_ARRAY_MEMBER);
+        }
+        validateExpectedType(memberType, ctx);
+    }
+
     private void validateTupleType(TupleTypeSymbol tupleTypeSymbol, SyntaxNodeAnalysisContext ctx) {
         for (TypeSymbol memberType : tupleTypeSymbol.memberTypeDescriptors()) {
             validateExpectedType(memberType, ctx);
@@ -228,10 +239,48 @@ public class YamlDataTypeValidator implements AnalysisTask<SyntaxNodeAnalysisCon
     }
 
     private void validateUnionType(UnionTypeSymbol unionTypeSymbol, SyntaxNodeAnalysisContext ctx) {
+        // Validating the members moves the current location to their fields
+        Location unionLocation = unionTypeSymbol.getLocation().orElse(currentLocation);
         List<TypeSymbol> memberTypeSymbols = unionTypeSymbol.memberTypeDescriptors();
+        List<RecordTypeSymbol> recordTypeSymbols = new ArrayList<>();
         for (TypeSymbol memberTypeSymbol : memberTypeSymbols) {
-            validateExpectedType(getRawType(memberTypeSymbol), ctx);
+            TypeSymbol rawType = getRawType(memberTypeSymbol);
+            if (rawType.typeKind() == TypeDescKind.RECORD) {
+                recordTypeSymbols.add((RecordTypeSymbol) rawType);
+            }
+            validateExpectedType(rawType, ctx);
+        }
+        if (recordTypeSymbols.size() > 1 && !hasDiscriminatorField(recordTypeSymbols)) {
+            reportDiagnosticInfo(ctx, Optional.ofNullable(unionLocation),
+                    YamlDataDiagnosticCodes.UNION_WITHOUT_DISCRIMINATOR);
+        }
+    }
+
+    /**
+     * Checks whether the records have a common required field with a distinct singleton type in each record,
+     * which decides the member of the union without trying each record type.
+     */
+    private static boolean hasDiscriminatorField(List<RecordTypeSymbol> recordTypeSymbols) {
+        for (String fieldName : recordTypeSymbols.get(0).fieldDescriptors().keySet()) {
+            Set<String> singletonValues = new HashSet<>();
+            boolean isDiscriminator = true;
+            for (RecordTypeSymbol recordTypeSymbol : recordTypeSymbols) {
+                RecordFieldSymbol fieldSymbol = recordTypeSymbol.fieldDescriptors().get(fieldName);
+                if (fieldSymbol == null || fieldSymbol.isOptional() || fieldSymbol.hasDefaultValue()) {
+                    isDiscriminator = false;
+                    break;
+                }
+                TypeSymbol fieldType = getRawType(fieldSymbol.typeDescriptor());
+                if (fieldType.typeKind() != TypeDescKind.SINGLETON || !singletonValues.add(fieldType.signature())) {
+                    isDiscriminator = false;
+                    break;
+                }
+            }
+            if (isDiscriminator) {
+                return true;
+            }
         }
+        return false;
     }
 
     public static TypeSymbol getRawType(TypeSymbol typeDescriptor) {
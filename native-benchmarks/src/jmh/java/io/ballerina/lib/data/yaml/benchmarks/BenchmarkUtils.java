@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.data.yaml.benchmarks;
+
+import io.ballerina.lib.data.yaml.ModuleUtils;
+import io.ballerina.lib.data.yaml.Native;
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTypedesc;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Utilities to set up the inputs of the benchmarks without a Ballerina program.
+ *
+ * @since 0.1.0
+ */
+public class BenchmarkUtils {
+
+    private static final String CORPUS_DIR_PROPERTY = "yaml.corpus.dir";
+    private static final String DEFAULT_CORPUS_DIR = "ballerina/tests/resources";
+    // Inputs which are meant to fail or to test the tag handles of a specific schema
+    private static final List<String> EXCLUDED_CORPUS_DIRS = List.of("negative", "parser", "tags");
+
+    private BenchmarkUtils() {
+    }
+
+    /**
+     * Sets the module used to create the errors, which is done by the module init function in a Ballerina program.
+     */
+    public static void initModule() {
+        try {
+            Field module = ModuleUtils.class.getDeclaredField("module");
+            module.setAccessible(true);
+            module.set(null, new Module("ballerina", "data.yaml", "0"));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("unable to initialize the module", e);
+        }
+    }
+
+    public static BMap<BString, Object> createReadOptions() {
+        BMap<BString, Object> allowDataProjection = ValueCreator.createMapValue();
+        allowDataProjection.put(StringUtils.fromString("nilAsOptionalField"), false);
+        allowDataProjection.put(StringUtils.fromString("absentAsNilableType"), false);
+        allowDataProjection.put(StringUtils.fromString("enableYamlStreamReorder"), false);
+
+        BMap<BString, Object> options = ValueCreator.createMapValue();
+        options.put(StringUtils.fromString("schema"), StringUtils.fromString("CORE_SCHEMA"));
+        options.put(StringUtils.fromString("allowAnchorRedefinition"), true);
+        options.put(StringUtils.fromString("allowMapEntryRedefinition"), false);
+        options.put(StringUtils.fromString("allowDataProjection"), allowDataProjection);
+        options.put(StringUtils.fromString("enableConstraintValidation"), false);
+        options.put(StringUtils.fromString("enableParallelStream"), false);
+        options.put(StringUtils.fromString("readAheadBlockCount"), 0L);
+        return options;
+    }
+
+    public static BMap<BString, Object> createWriteConfig(boolean isStream, boolean flowStyle) {
+        BMap<BString, Object> config = ValueCreator.createMapValue();
+        config.put(StringUtils.fromString("indentationPolicy"), 2L);
+        config.put(StringUtils.fromString("blockLevel"), 1L);
+        config.put(StringUtils.fromString("canonical"), false);
+        config.put(StringUtils.fromString("useSingleQuotes"), false);
+        config.put(StringUtils.fromString("forceQuotes"), false);
+        config.put(StringUtils.fromString("schema"), StringUtils.fromString("CORE_SCHEMA"));
+        config.put(StringUtils.fromString("isStream"), isStream);
+        config.put(StringUtils.fromString("flowStyle"), flowStyle);
+        config.put(StringUtils.fromString("enableParallelStream"), false);
+        return config;
+    }
+
+    /**
+     * Returns the YAML documents of the test resources of the Ballerina module which can be parsed as the given
+     * target type.
+     *
+     * @param options read options
+     * @param typedesc target type
+     * @return list of YAML documents
+     */
+    public static List<String> loadCorpus(BMap<BString, Object> options, BTypedesc typedesc) {
+        Path corpusDir = Path.of(System.getProperty(CORPUS_DIR_PROPERTY, DEFAULT_CORPUS_DIR));
+        List<String> corpus = new ArrayList<>();
+        try (Stream<Path> paths = Files.walk(corpusDir)) {
+            for (Path path : paths.filter(BenchmarkUtils::isCorpusFile).sorted().toList()) {
+                String content = Files.readString(path);
+                if (!(Native.parseString(StringUtils.fromString(content), options, typedesc) instanceof BError)) {
+                    corpus.add(content);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("unable to read the corpus at " + corpusDir.toAbsolutePath(), e);
+        }
+        if (corpus.isEmpty()) {
+            throw new IllegalStateException("no YAML documents found at " + corpusDir.toAbsolutePath());
+        }
+        return corpus;
+    }
+
+    private static boolean isCorpusFile(Path path) {
+        if (!path.toString().endsWith(".yaml")) {
+            return false;
+        }
+        for (Path part : path) {
+            if (EXCLUDED_CORPUS_DIRS.contains(part.toString())) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
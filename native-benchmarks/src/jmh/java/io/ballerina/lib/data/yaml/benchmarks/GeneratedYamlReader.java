@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.data.yaml.benchmarks;
+
+import java.io.Reader;
+
+/**
+ * Reader which generates a YAML document of the given shape on the fly, so large inputs do not have to be
+ * held in memory while they are parsed.
+ *
+ * @since 0.1.0
+ */
+public class GeneratedYamlReader extends Reader {
+
+    private final ScalingShape shape;
+    private final long size;
+    private final StringBuilder chunk = new StringBuilder();
+    private long generated = 0;
+    private int chunkIndex = 0;
+    private int entryIndex = 0;
+
+    /**
+     * Creates a reader which stops at the first entry boundary after the given number of characters.
+     *
+     * @param shape shape of the generated document
+     * @param size minimum number of characters to generate
+     */
+    public GeneratedYamlReader(ScalingShape shape, long size) {
+        this.shape = shape;
+        this.size = size;
+    }
+
+    @Override
+    public int read(char[] buffer, int offset, int length) {
+        if (length == 0) {
+            return 0;
+        }
+        if (chunkIndex == chunk.length()) {
+            if (generated >= size) {
+                return -1;
+            }
+            chunk.setLength(0);
+            chunkIndex = 0;
+            shape.append(chunk, entryIndex++);
+            generated += chunk.length();
+        }
+        int count = Math.min(length, chunk.length() - chunkIndex);
+        chunk.getChars(chunkIndex, chunkIndex + count, buffer, offset);
+        chunkIndex += count;
+        return count;
+    }
+
+    @Override
+    public void close() {
+    }
+}
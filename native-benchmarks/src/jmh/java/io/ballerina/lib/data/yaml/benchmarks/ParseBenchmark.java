@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.data.yaml.benchmarks;
+
+import io.ballerina.lib.data.yaml.Native;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTypedesc;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of {@link Native#parseString} and {@link Native#parseBytes}.
+ *
+ * @since 0.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParseBenchmark {
+
+    private static final String CORPUS = "CORPUS";
+
+    /**
+     * Either the test resources of the Ballerina module or one of the {@link YamlShape} names.
+     */
+    @Param({"CORPUS", "DEEP_NESTING", "WIDE_MAPPING", "BLOCK_SCALARS", "ANCHORS", "MULTI_DOC_STREAM"})
+    public String input;
+
+    /**
+     * Target type, where `typed` is the typed target of the shape.
+     */
+    @Param({"json", "anydata", "typed"})
+    public String target;
+
+    /**
+     * Number of entries in a synthetic document.
+     */
+    @Param({"1000"})
+    public int entries;
+
+    private BMap<BString, Object> options;
+    private BTypedesc typedesc;
+    private BString[] stringInputs;
+    private BArray[] bytesInputs;
+
+    @Setup
+    public void setup() {
+        BenchmarkUtils.initModule();
+        options = BenchmarkUtils.createReadOptions();
+        typedesc = ValueCreator.createTypedescValue(resolveTargetType());
+
+        List<String> documents = CORPUS.equals(input) ?
+                BenchmarkUtils.loadCorpus(options, typedesc) : List.of(YamlShape.valueOf(input).generate(entries));
+        stringInputs = new BString[documents.size()];
+        bytesInputs = new BArray[documents.size()];
+        for (int i = 0; i < documents.size(); i++) {
+            String document = documents.get(i);
+            stringInputs[i] = StringUtils.fromString(document);
+            bytesInputs[i] = ValueCreator.createArrayValue(document.getBytes(StandardCharsets.UTF_8));
+            // Make sure the failure path is not measured
+            Object result = Native.parseString(stringInputs[i], options, typedesc);
+            if (result instanceof BError error) {
+                throw new IllegalStateException("unable to parse the input '" + input + "' as " + target + ": "
+                        + error.getMessage());
+            }
+        }
+    }
+
+    @Benchmark
+    public void parseString(Blackhole blackhole) {
+        for (BString yaml : stringInputs) {
+            blackhole.consume(Native.parseString(yaml, options, typedesc));
+        }
+    }
+
+    @Benchmark
+    public void parseBytes(Blackhole blackhole) {
+        for (BArray yaml : bytesInputs) {
+            blackhole.consume(Native.parseBytes(yaml, options, typedesc));
+        }
+    }
+
+    private Type resolveTargetType() {
+        return switch (target) {
+            case "json" -> PredefinedTypes.TYPE_JSON;
+            case "anydata" -> PredefinedTypes.TYPE_ANYDATA;
+            default -> CORPUS.equals(input) ? PredefinedTypes.TYPE_JSON : YamlShape.valueOf(input).getTypedTarget();
+        };
+    }
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.data.yaml.benchmarks;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+import io.ballerina.lib.data.yaml.Native;
+import io.ballerina.lib.data.yaml.parser.YamlParser;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTypedesc;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+
+/**
+ * Parses and serializes generated YAML documents of increasing sizes under a fixed maximum heap, and fails if the
+ * live heap required per input byte grows with the input size.
+ * <p>
+ * The live heap is sampled after each garbage collection during a run, hence transient buffers such as the
+ * lexer buffers, the stream accumulators and the emitted lines are accounted as long as they survive a collection.
+ *
+ * @since 0.1.0
+ */
+public class ScalingHarness {
+
+    private static final String SIZES_PROPERTY = "yaml.scaling.sizes";
+    private static final String SHAPES_PROPERTY = "yaml.scaling.shapes";
+    private static final String TOLERANCE_PROPERTY = "yaml.scaling.tolerance";
+    private static final long MEGA_BYTE = 1024L * 1024L;
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private static final AtomicLong PEAK_LIVE_HEAP = new AtomicLong();
+
+    private ScalingHarness() {
+    }
+
+    public static void main(String[] args) {
+        long[] sizes = Arrays.stream(System.getProperty(SIZES_PROPERTY, "1,10,100").split(","))
+                .map(String::trim).mapToLong(Long::parseLong).sorted().toArray();
+        List<ScalingShape> shapes = Arrays.stream(System.getProperty(SHAPES_PROPERTY,
+                "FLAT_LIST,DEEP_TREE,MULTI_DOC_STREAM").split(",")).map(String::trim).map(ScalingShape::valueOf)
+                .toList();
+        double tolerance = Double.parseDouble(System.getProperty(TOLERANCE_PROPERTY, "2.0"));
+
+        BenchmarkUtils.initModule();
+        registerGcListener();
+        System.out.printf("max heap: %d MB%n", Runtime.getRuntime().maxMemory() / MEGA_BYTE);
+        System.out.printf("%-18s %8s %12s %14s %16s %14s %16s%n", "shape", "size MB", "operation", "MB/s",
+                "peak heap MB", "heap/input", "result");
+
+        List<String> failures = new ArrayList<>();
+        for (ScalingShape shape : shapes) {
+            List<Measurement> parseMeasurements = new ArrayList<>();
+            List<Measurement> serializeMeasurements = new ArrayList<>();
+            for (long sizeInMb : sizes) {
+                Measurement[] measurements = run(shape, sizeInMb * MEGA_BYTE);
+                parseMeasurements.add(measurements[0]);
+                serializeMeasurements.add(measurements[1]);
+            }
+            verifyLinearGrowth(shape, "parse", parseMeasurements, tolerance, failures);
+            verifyLinearGrowth(shape, "serialize", serializeMeasurements, tolerance, failures);
+        }
+
+        if (!failures.isEmpty()) {
+            failures.forEach(System.err::println);
+            System.exit(1);
+        }
+    }
+
+    private static Measurement[] run(ScalingShape shape, long size) {
+        BMap<BString, Object> options = BenchmarkUtils.createReadOptions();
+        BTypedesc typedesc = ValueCreator.createTypedescValue(PredefinedTypes.TYPE_ANYDATA);
+        BMap<BString, Object> writeConfig = BenchmarkUtils.createWriteConfig(
+                shape == ScalingShape.MULTI_DOC_STREAM, false);
+
+        Object[] value = new Object[1];
+        Measurement parse = measure(shape, size, "parse", () -> {
+            value[0] = YamlParser.compose(new GeneratedYamlReader(shape, size), options, typedesc);
+            return value[0];
+        });
+        if (!parse.isSuccessful()) {
+            return new Measurement[]{parse, Measurement.skipped(size)};
+        }
+        Measurement serialize = measure(shape, size, "serialize",
+                () -> Native.toYamlStringArray(value[0], writeConfig));
+        return new Measurement[]{parse, serialize};
+    }
+
+    private static Measurement measure(ScalingShape shape, long size, String operation, Supplier<Object> task) {
+        long baseline = collectAndGetUsedHeap();
+        PEAK_LIVE_HEAP.set(0);
+        String status;
+        long elapsedTime;
+        long startTime = System.nanoTime();
+        try {
+            Object result = task.get();
+            elapsedTime = System.nanoTime() - startTime;
+            status = result instanceof BError error ? "error: " + error.getMessage() : "ok";
+        } catch (OutOfMemoryError e) {
+            elapsedTime = System.nanoTime() - startTime;
+            status = "out of memory";
+        } catch (RuntimeException e) {
+            // Includes the errors which are thrown as BError instead of being returned
+            elapsedTime = System.nanoTime() - startTime;
+            status = "error: " + e.getMessage();
+        }
+        // The parsed value is still reachable, hence it is accounted in the live heap
+        PEAK_LIVE_HEAP.accumulateAndGet(collectAndGetUsedHeap(), Math::max);
+        Measurement measurement = new Measurement(size, elapsedTime,
+                Math.max(0, PEAK_LIVE_HEAP.get() - baseline), status);
+        System.out.printf("%-18s %8d %12s %14.2f %16.2f %14.2f %16s%n", shape, size / MEGA_BYTE, operation,
+                measurement.throughput(), (double) measurement.peakHeap() / MEGA_BYTE, measurement.heapRatio(),
+                status);
+        return measurement;
+    }
+
+    private static void verifyLinearGrowth(ScalingShape shape, String operation, List<Measurement> measurements,
+                                           double tolerance, List<String> failures) {
+        for (Measurement measurement : measurements) {
+            if (!measurement.isSuccessful()) {
+                failures.add(String.format("%s %s of %d MB failed: %s", shape, operation,
+                        measurement.size() / MEGA_BYTE, measurement.status()));
+                return;
+            }
+        }
+        if (measurements.size() < 2) {
+            return;
+        }
+        Measurement smallest = measurements.get(0);
+        Measurement largest = measurements.get(measurements.size() - 1);
+        if (largest.heapRatio() > smallest.heapRatio() * tolerance) {
+            failures.add(String.format("%s %s heap grows superlinearly: %.2f bytes per input byte at %d MB, " +
+                            "%.2f bytes per input byte at %d MB", shape, operation, smallest.heapRatio(),
+                    smallest.size() / MEGA_BYTE, largest.heapRatio(), largest.size() / MEGA_BYTE));
+        }
+    }
+
+    private static void registerGcListener() {
+        // Only the heap pools are accounted, the same as the baseline
+        Set<String> heapPools = new HashSet<>();
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                heapPools.add(pool.getName());
+            }
+        }
+        NotificationListener listener = (notification, handback) -> {
+            if (!GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) {
+                return;
+            }
+            GarbageCollectionNotificationInfo info =
+                    GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+            long used = 0;
+            for (Map.Entry<String, MemoryUsage> usage : info.getGcInfo().getMemoryUsageAfterGc().entrySet()) {
+                if (heapPools.contains(usage.getKey())) {
+                    used += usage.getValue().getUsed();
+                }
+            }
+            PEAK_LIVE_HEAP.accumulateAndGet(used, Math::max);
+        };
+        for (GarbageCollectorMXBean gcBean : ManagementFactory.getGarbageCollectorMXBeans()) {
+            ((NotificationEmitter) gcBean).addNotificationListener(listener, null, null);
+        }
+    }
+
+    private static long collectAndGetUsedHeap() {
+        System.gc();
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    /**
+     * Represents the outcome of a single operation.
+     *
+     * @param size input size in bytes
+     * @param elapsedTime elapsed time in nanoseconds
+     * @param peakHeap peak live heap above the baseline in bytes
+     * @param status outcome of the operation
+     */
+    record Measurement(long size, long elapsedTime, long peakHeap, String status) {
+
+        static Measurement skipped(long size) {
+            return new Measurement(size, 0, 0, "skipped");
+        }
+
+        boolean isSuccessful() {
+            return "ok".equals(status);
+        }
+
+        double throughput() {
+            return elapsedTime == 0 ? 0 : (double) size / MEGA_BYTE / (elapsedTime / NANOS_PER_SECOND);
+        }
+
+        double heapRatio() {
+            return (double) peakHeap / size;
+        }
+    }
+}
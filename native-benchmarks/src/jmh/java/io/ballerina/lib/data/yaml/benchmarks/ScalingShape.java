@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.data.yaml.benchmarks;
+
+/**
+ * Shapes of the YAML documents generated by the scaling harness.
+ *
+ * @since 0.1.0
+ */
+public enum ScalingShape {
+
+    /**
+     * A single top-level sequence of small mappings.
+     */
+    FLAT_LIST {
+        @Override
+        void append(StringBuilder builder, int index) {
+            builder.append("- id: ").append(index).append('\n');
+            builder.append("  name: item-").append(index).append('\n');
+            builder.append("  active: ").append(index % 2 == 0).append('\n');
+        }
+    },
+
+    /**
+     * A single top-level mapping whose entries are trees of nested mappings and sequences.
+     */
+    DEEP_TREE {
+        @Override
+        void append(StringBuilder builder, int index) {
+            builder.append("node").append(index).append(":\n");
+            for (int depth = 1; depth <= TREE_DEPTH; depth++) {
+                String indent = "  ".repeat(depth);
+                builder.append(indent).append("name: level-").append(depth).append('\n');
+                builder.append(indent).append("values: [").append(index).append(", ").append(depth).append("]\n");
+                builder.append(indent).append("child:\n");
+            }
+            builder.append("  ".repeat(TREE_DEPTH + 1)).append("leaf: ").append(index).append('\n');
+        }
+    },
+
+    /**
+     * A stream of small explicit documents.
+     */
+    MULTI_DOC_STREAM {
+        @Override
+        void append(StringBuilder builder, int index) {
+            builder.append("---\n");
+            builder.append("id: ").append(index).append('\n');
+            builder.append("description: document number ").append(index).append('\n');
+            builder.append("tags: [alpha, beta]\n");
+        }
+    };
+
+    private static final int TREE_DEPTH = 8;
+
+    abstract void append(StringBuilder builder, int index);
+}
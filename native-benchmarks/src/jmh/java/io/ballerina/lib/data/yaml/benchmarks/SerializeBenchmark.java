@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.data.yaml.benchmarks;
+
+import io.ballerina.lib.data.yaml.Native;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTypedesc;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of {@link Native#toYamlStringArray}.
+ *
+ * @since 0.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializeBenchmark {
+
+    private static final String CORPUS = "CORPUS";
+
+    /**
+     * Either the test resources of the Ballerina module or one of the {@link YamlShape} names.
+     */
+    @Param({"CORPUS", "DEEP_NESTING", "WIDE_MAPPING", "BLOCK_SCALARS", "ANCHORS", "MULTI_DOC_STREAM"})
+    public String input;
+
+    @Param({"false", "true"})
+    public boolean flowStyle;
+
+    /**
+     * Number of entries in a synthetic document.
+     */
+    @Param({"1000"})
+    public int entries;
+
+    private BMap<BString, Object> config;
+    private Object[] values;
+
+    @Setup
+    public void setup() {
+        BenchmarkUtils.initModule();
+        BMap<BString, Object> options = BenchmarkUtils.createReadOptions();
+        BTypedesc typedesc = ValueCreator.createTypedescValue(PredefinedTypes.TYPE_ANYDATA);
+        config = BenchmarkUtils.createWriteConfig(YamlShape.MULTI_DOC_STREAM.name().equals(input), flowStyle);
+
+        List<String> documents = CORPUS.equals(input) ?
+                BenchmarkUtils.loadCorpus(options, typedesc) : List.of(YamlShape.valueOf(input).generate(entries));
+        List<Object> parsedValues = new ArrayList<>(documents.size());
+        for (String document : documents) {
+            Object value = Native.parseString(StringUtils.fromString(document), options, typedesc);
+            if (value instanceof BError error) {
+                throw new IllegalStateException("unable to parse the input '" + input + "': " + error.getMessage());
+            }
+            parsedValues.add(value);
+        }
+        values = parsedValues.toArray();
+    }
+
+    @Benchmark
+    public void toYamlStringArray(Blackhole blackhole) {
+        for (Object value : values) {
+            blackhole.consume(Native.toYamlStringArray(value, config));
+        }
+    }
+}
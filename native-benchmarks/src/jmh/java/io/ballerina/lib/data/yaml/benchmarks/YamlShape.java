@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.data.yaml.benchmarks;
+
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.types.Type;
+
+/**
+ * Shapes of the synthetic YAML documents used by the benchmarks. Each shape carries a typed target which
+ * describes the document more precisely than `json`.
+ *
+ * @since 0.1.0
+ */
+public enum YamlShape {
+
+    /**
+     * Top-level keys each holding a chain of nested mappings.
+     */
+    DEEP_NESTING(TypeCreator.createMapType(PredefinedTypes.TYPE_JSON)) {
+        @Override
+        void append(StringBuilder builder, int index) {
+            builder.append("node").append(index).append(":\n");
+            for (int depth = 1; depth <= NESTING_DEPTH; depth++) {
+                builder.append("  ".repeat(depth)).append("level").append(depth).append(":\n");
+            }
+            builder.append("  ".repeat(NESTING_DEPTH + 1)).append("leaf: ").append(index).append('\n');
+        }
+    },
+
+    /**
+     * A single mapping with many keys having either integer or string values.
+     */
+    WIDE_MAPPING(TypeCreator.createMapType(
+            TypeCreator.createUnionType(PredefinedTypes.TYPE_INT, PredefinedTypes.TYPE_STRING))) {
+        @Override
+        void append(StringBuilder builder, int index) {
+            builder.append("key").append(index).append(": ");
+            if (index % 2 == 0) {
+                builder.append(index);
+            } else {
+                builder.append("value ").append(index);
+            }
+            builder.append('\n');
+        }
+    },
+
+    /**
+     * Mapping of literal block scalars with multiple long lines.
+     */
+    BLOCK_SCALARS(TypeCreator.createMapType(PredefinedTypes.TYPE_STRING)) {
+        @Override
+        void append(StringBuilder builder, int index) {
+            builder.append("text").append(index).append(": |\n");
+            for (int line = 0; line < BLOCK_SCALAR_LINES; line++) {
+                builder.append("  Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod ")
+                        .append(index).append('-').append(line).append('\n');
+            }
+        }
+    },
+
+    /**
+     * Anchored mappings each referred by an alias.
+     */
+    ANCHORS(TypeCreator.createMapType(TypeCreator.createMapType(PredefinedTypes.TYPE_INT))) {
+        @Override
+        void append(StringBuilder builder, int index) {
+            builder.append("base").append(index).append(": &anchor").append(index).append('\n');
+            builder.append("  x: ").append(index).append('\n');
+            builder.append("  y: ").append(index * 2).append('\n');
+            builder.append("ref").append(index).append(": *anchor").append(index).append('\n');
+        }
+    },
+
+    /**
+     * Stream of small explicit documents.
+     */
+    MULTI_DOC_STREAM(TypeCreator.createArrayType(TypeCreator.createMapType(PredefinedTypes.TYPE_JSON))) {
+        @Override
+        void append(StringBuilder builder, int index) {
+            builder.append("---\n");
+            builder.append("id: ").append(index).append('\n');
+            builder.append("name: item-").append(index).append('\n');
+            builder.append("price: ").append(index).append(".5\n");
+            builder.append("tags: [alpha, beta, gamma]\n");
+        }
+    };
+
+    private static final int NESTING_DEPTH = 16;
+    private static final int BLOCK_SCALAR_LINES = 8;
+
+    private final Type typedTarget;
+
+    YamlShape(Type typedTarget) {
+        this.typedTarget = typedTarget;
+    }
+
+    Type getTypedTarget() {
+        return typedTarget;
+    }
+
+    /**
+     * Generates a document of this shape with the given number of entries.
+     *
+     * @param entries number of entries
+     * @return YAML document
+     */
+    String generate(int entries) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < entries; i++) {
+            append(builder, i);
+        }
+        return builder.toString();
+    }
+
+    abstract void append(StringBuilder builder, int index);
+}
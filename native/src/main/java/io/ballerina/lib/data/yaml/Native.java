@@ -18,14 +18,25 @@
 
 package io.ballerina.lib.data.yaml;
 
+import io.ballerina.lib.data.yaml.cache.DocumentCache;
 import io.ballerina.lib.data.yaml.emitter.Emitter;
 import io.ballerina.lib.data.yaml.io.BallerinaByteBlockInputStream;
+import io.ballerina.lib.data.yaml.io.DataReaderThreadPool;
+import io.ballerina.lib.data.yaml.io.MappedFileInputStream;
+import io.ballerina.lib.data.yaml.metrics.ParseMetrics;
+import io.ballerina.lib.data.yaml.metrics.SerializeMetrics;
+import io.ballerina.lib.data.yaml.metrics.YamlMetrics;
+import io.ballerina.lib.data.yaml.metrics.YamlParseEvent;
+import io.ballerina.lib.data.yaml.parser.DocumentBoundaryScanner;
 import io.ballerina.lib.data.yaml.parser.YamlParser;
+import io.ballerina.lib.data.yaml.serializer.JsonEventReader;
 import io.ballerina.lib.data.yaml.serializer.Serializer;
 import io.ballerina.lib.data.yaml.utils.DiagnosticLog;
 import io.ballerina.lib.data.yaml.utils.OptionsUtils;
 import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.creators.TypeCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BMap;
@@ -35,10 +46,20 @@ import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BTypedesc;
 
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
+import static io.ballerina.lib.data.yaml.utils.Constants.DEFAULT_GLOBAL_SEQ_TAG_HANDLE;
+import static io.ballerina.lib.data.yaml.utils.Constants.ENABLE_CONSTRAINT_VALIDATION;
+import static io.ballerina.lib.data.yaml.utils.Constants.READ_AHEAD_BLOCK_COUNT;
+import static io.ballerina.lib.data.yaml.utils.Constants.START_OF_YAML_DOCUMENT;
 import static io.ballerina.lib.data.yaml.utils.DataReader.resolveCloseMethod;
 import static io.ballerina.lib.data.yaml.utils.DataReader.resolveNextMethod;
 
@@ -49,54 +70,291 @@ import static io.ballerina.lib.data.yaml.utils.DataReader.resolveNextMethod;
  */
 public class Native {
 
+    private static final String DOCUMENT_BOUNDARY_TYPE = "DocumentBoundary";
+
     private Native() {
     }
 
     public static Object parseString(BString yaml, BMap<BString, Object> options, BTypedesc typed) {
+        YamlParseEvent event = new YamlParseEvent();
+        event.begin();
+        ParseMetrics metrics = YamlMetrics.createParseMetrics(typed.getDescribingType());
+        long startTime = metrics == null ? 0 : System.nanoTime();
+        Object result;
         try {
-            return YamlParser.compose(new StringReader(yaml.getValue()), options, typed);
+            if (OptionsUtils.resolveReadConfig(options).enableParallelStream()) {
+                result = YamlParser.composeInParallel(yaml.getValue(), options, typed, metrics);
+            } else {
+                result = YamlParser.compose(new StringReader(yaml.getValue()), options, typed, metrics);
+            }
         } catch (BError e) {
-            return e;
+            result = e;
         }
+        event.commit(() -> getUtf8Length(yaml), typed.getDescribingType(), !(result instanceof BError));
+        if (metrics != null) {
+            metrics.setInputBytes(getUtf8Length(yaml));
+            publishParseMetrics(metrics, startTime, result);
+        }
+        return result;
     }
 
     public static Object parseBytes(BArray yaml, BMap<BString, Object> options, BTypedesc typed) {
+        return parseByteArray(yaml.getBytes(), options, typed);
+    }
+
+    private static Object parseByteArray(byte[] bytes, BMap<BString, Object> options, BTypedesc typed) {
+        YamlParseEvent event = new YamlParseEvent();
+        event.begin();
+        ParseMetrics metrics = YamlMetrics.createParseMetrics(typed.getDescribingType());
+        long startTime = metrics == null ? 0 : System.nanoTime();
+        Object result;
         try {
-            return YamlParser.compose(new InputStreamReader(new ByteArrayInputStream(yaml.getBytes())),
-                    options, typed);
+            if (OptionsUtils.resolveReadConfig(options).enableParallelStream()) {
+                result = YamlParser.composeInParallel(new String(bytes), options, typed, metrics);
+            } else {
+                result = YamlParser.compose(new InputStreamReader(new ByteArrayInputStream(bytes)), options, typed,
+                        metrics);
+            }
         } catch (BError e) {
-            return e;
+            result = e;
+        }
+        event.commit(() -> bytes.length, typed.getDescribingType(), !(result instanceof BError));
+        if (metrics != null) {
+            metrics.setInputBytes(bytes.length);
+            publishParseMetrics(metrics, startTime, result);
+        }
+        return result;
+    }
+
+    public static Object parseStringWithCache(BString yaml, BMap<BString, Object> options, BTypedesc typed) {
+        String content = yaml.getValue();
+        return DocumentCache.getOrParse(content, content.length(), OptionsUtils.resolveReadConfig(options),
+                (Boolean) options.get(ENABLE_CONSTRAINT_VALIDATION), typed.getDescribingType(),
+                () -> parseString(yaml, options, typed));
+    }
+
+    public static Object parseBytesWithCache(BArray yaml, BMap<BString, Object> options, BTypedesc typed) {
+        // The parser does not modify the bytes, hence the same copy is used as the key of the cache
+        byte[] bytes = yaml.getBytes();
+        return DocumentCache.getOrParse(bytes, bytes.length, OptionsUtils.resolveReadConfig(options),
+                (Boolean) options.get(ENABLE_CONSTRAINT_VALIDATION), typed.getDescribingType(),
+                () -> parseByteArray(bytes, options, typed));
+    }
+
+    public static Object transcodeToJsonString(BString yaml, BMap<BString, Object> options) {
+        return YamlParser.transcodeToJson(new StringReader(yaml.getValue()), OptionsUtils.resolveReadConfig(options));
+    }
+
+    public static BArray indexDocuments(BArray yaml) {
+        List<DocumentBoundaryScanner.Boundary> boundaries = DocumentBoundaryScanner.index(yaml.getBytes());
+        Type boundaryType = ValueCreator.createRecordValue(ModuleUtils.getModule(), DOCUMENT_BOUNDARY_TYPE).getType();
+        BArray result = ValueCreator.createArrayValue(TypeCreator.createArrayType(boundaryType));
+        for (DocumentBoundaryScanner.Boundary boundary : boundaries) {
+            result.append(ValueCreator.createRecordValue(ModuleUtils.getModule(), DOCUMENT_BOUNDARY_TYPE, Map.of(
+                    "startOffset", (long) boundary.startOffset(),
+                    "endOffset", (long) boundary.endOffset(),
+                    "startLine", (long) boundary.startLine(),
+                    "endLine", (long) boundary.endLine())));
         }
+        return result;
+    }
+
+    public static Object parseFile(BString path, BMap<BString, Object> options, BTypedesc typed) {
+        YamlParseEvent event = new YamlParseEvent();
+        event.begin();
+        ParseMetrics metrics = YamlMetrics.createParseMetrics(typed.getDescribingType());
+        long startTime = metrics == null ? 0 : System.nanoTime();
+        long fileSize = -1;
+        Object result;
+        try (MappedFileInputStream fileStream = new MappedFileInputStream(Path.of(path.getValue()))) {
+            fileSize = fileStream.getFileSize();
+            result = YamlParser.compose(new InputStreamReader(fileStream, StandardCharsets.UTF_8), options, typed,
+                    metrics);
+        } catch (BError e) {
+            result = e;
+        } catch (IOException | InvalidPathException e) {
+            result = DiagnosticLog.getYamlError("Error occurred while reading the file: " + e.getMessage());
+        }
+        final long inputBytes = fileSize;
+        event.commit(() -> inputBytes, typed.getDescribingType(), !(result instanceof BError));
+        if (metrics != null) {
+            metrics.setInputBytes(inputBytes);
+            publishParseMetrics(metrics, startTime, result);
+        }
+        return result;
     }
 
     public static Object parseStream(Environment env, BStream yaml, BMap<BString, Object> options, BTypedesc typed) {
         final BObject iteratorObj = yaml.getIteratorObj();
+        YamlParseEvent event = new YamlParseEvent();
+        event.begin();
+        ParseMetrics metrics = YamlMetrics.createParseMetrics(typed.getDescribingType());
+        long startTime = metrics == null ? 0 : System.nanoTime();
+        long readBytes = -1;
+        Object result;
         try {
             BallerinaByteBlockInputStream byteBlockSteam = new BallerinaByteBlockInputStream(env,
                     iteratorObj, resolveNextMethod(iteratorObj), resolveCloseMethod(iteratorObj));
-            Object result = YamlParser.compose(new InputStreamReader(byteBlockSteam), options, typed);
-            if (byteBlockSteam.getError() != null) {
-                return byteBlockSteam.getError();
+            byteBlockSteam.startReadAhead(Math.toIntExact((Long) options.get(READ_AHEAD_BLOCK_COUNT)));
+            try {
+                result = YamlParser.compose(new InputStreamReader(byteBlockSteam), options, typed, metrics);
+                if (byteBlockSteam.getError() != null) {
+                    result = byteBlockSteam.getError();
+                }
+            } finally {
+                byteBlockSteam.stopReadAhead();
+                readBytes = byteBlockSteam.getReadBytes();
             }
-            return result;
         } catch (Exception e) {
-            return DiagnosticLog.getYamlError("Error occurred while reading the stream: " + e.getMessage());
+            result = DiagnosticLog.getYamlError("Error occurred while reading the stream: " + e.getMessage());
+        }
+        final long inputBytes = readBytes;
+        event.commit(() -> inputBytes, typed.getDescribingType(), !(result instanceof BError));
+        if (metrics != null) {
+            metrics.setInputBytes(inputBytes);
+            publishParseMetrics(metrics, startTime, result);
+        }
+        return result;
+    }
+
+    private static long getUtf8Length(BString yaml) {
+        return yaml.getValue().getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    private static void publishParseMetrics(ParseMetrics metrics, long startTime, Object result) {
+        metrics.setTotalTime(System.nanoTime() - startTime);
+        if (result instanceof BError error) {
+            metrics.setErrorMessage(error.getMessage());
         }
+        YamlMetrics.publish(metrics);
     }
 
     public static Object toYamlStringArray(Object yamlValue, BMap<BString, Object> config) {
+        SerializeMetrics metrics = YamlMetrics.createSerializeMetrics();
+        if (metrics == null) {
+            return toYamlStringArray(yamlValue, config, null);
+        }
+
+        long startTime = System.nanoTime();
+        try {
+            BArray result = toYamlStringArray(yamlValue, config, metrics);
+            for (int i = 0; i < result.size(); i++) {
+                metrics.addOutputLine(result.getBString(i).getValue());
+            }
+            return result;
+        } catch (RuntimeException e) {
+            metrics.setErrorMessage(e.getMessage());
+            throw e;
+        } finally {
+            metrics.setTotalTime(System.nanoTime() - startTime);
+            YamlMetrics.publish(metrics);
+        }
+    }
+
+    private static BArray toYamlStringArray(Object yamlValue, BMap<BString, Object> config,
+                                            SerializeMetrics metrics) {
         OptionsUtils.WriteConfig writeConfig = OptionsUtils.resolveWriteOptions(config);
         char delimiter = writeConfig.useSingleQuotes() ? '\'' : '"';
 
+        if (writeConfig.isStream() && writeConfig.enableParallelStream() && yamlValue instanceof BArray documents
+                && documents.size() > 1) {
+            return ValueCreator.createArrayValue(
+                    serializeStreamInParallel(documents, writeConfig, delimiter, metrics).toArray(new BString[0]));
+        }
+
+        long startTime = metrics == null ? 0 : System.nanoTime();
         Serializer.SerializerState serializerState = new Serializer.SerializerState(delimiter,
                 writeConfig.forceQuotes(), writeConfig.blockLevel(), writeConfig.flowStyle(), writeConfig.isStream()
         );
         Serializer.serialize(serializerState, yamlValue);
+        if (metrics != null) {
+            long serializedTime = System.nanoTime();
+            metrics.addSerializationTime(serializedTime - startTime);
+            metrics.addEvents(serializerState.getEvents().size());
+            metrics.addDocuments(writeConfig.isStream() && yamlValue instanceof BArray array ? array.size() : 1);
+            startTime = serializedTime;
+        }
 
         Emitter.EmitterState emitterState = new Emitter.EmitterState(
                 serializerState.getEvents(), writeConfig.indentationPolicy(), writeConfig.canonical()
         );
         List<BString> content = Emitter.emit(emitterState, writeConfig.isStream());
+        if (metrics != null) {
+            metrics.addEmissionTime(System.nanoTime() - startTime);
+        }
         return ValueCreator.createArrayValue(content.toArray(new BString[0]));
     }
+
+    public static Object jsonStringToYamlStringArray(BString json, BMap<BString, Object> config) {
+        OptionsUtils.WriteConfig writeConfig = OptionsUtils.resolveWriteOptions(config);
+        char delimiter = writeConfig.useSingleQuotes() ? '\'' : '"';
+        Serializer.SerializerState serializerState = new Serializer.SerializerState(delimiter,
+                writeConfig.forceQuotes(), writeConfig.blockLevel(), writeConfig.flowStyle(), writeConfig.isStream()
+        );
+        // The events are read from the JSON text as the emitter proceeds, without creating the json value
+        JsonEventReader eventReader = new JsonEventReader(json.getValue(), serializerState);
+        Emitter.EmitterState emitterState = new Emitter.EmitterState(eventReader, writeConfig.indentationPolicy(),
+                writeConfig.canonical()
+        );
+        try {
+            List<BString> content = Emitter.emit(emitterState, writeConfig.isStream());
+            // The emitter stops reading after the root value, hence the rest of the JSON text is verified here
+            if (eventReader.hasNext()) {
+                return DiagnosticLog.getYamlError("invalid JSON: unexpected content after the JSON value");
+            }
+            return ValueCreator.createArrayValue(content.toArray(new BString[0]));
+        } catch (BError e) {
+            return e;
+        }
+    }
+
+    private static List<BString> serializeStreamInParallel(BArray documents, OptionsUtils.WriteConfig writeConfig,
+                                                           char delimiter, SerializeMetrics metrics) {
+        // Each top-level member is an independent YAML document, hence they can be serialized and emitted
+        // concurrently. The results are concatenated in the input order.
+        SerializeMetrics[] documentMetrics = new SerializeMetrics[documents.size()];
+        List<List<BString>> emittedDocuments = DataReaderThreadPool.mapInParallel(documents.size(), i -> {
+            documentMetrics[i] = metrics == null ? null : metrics.createChild();
+            return serializeDocument(documents.get(i), writeConfig, delimiter, documentMetrics[i]);
+        });
+        if (metrics != null) {
+            for (SerializeMetrics child : documentMetrics) {
+                metrics.merge(child);
+            }
+        }
+
+        List<BString> content = new ArrayList<>();
+        for (List<BString> document : emittedDocuments) {
+            if (!content.isEmpty() && !document.isEmpty()) {
+                content.add(START_OF_YAML_DOCUMENT);
+            }
+            content.addAll(document);
+        }
+        return content;
+    }
+
+    private static List<BString> serializeDocument(Object document, OptionsUtils.WriteConfig writeConfig,
+                                                   char delimiter, SerializeMetrics metrics) {
+        long startTime = metrics == null ? 0 : System.nanoTime();
+        Serializer.SerializerState serializerState = new Serializer.SerializerState(delimiter,
+                writeConfig.forceQuotes(), writeConfig.blockLevel(), writeConfig.flowStyle(), false
+        );
+        Serializer.serialize(serializerState, document, 1, DEFAULT_GLOBAL_SEQ_TAG_HANDLE);
+        if (metrics != null) {
+            long serializedTime = System.nanoTime();
+            metrics.addSerializationTime(serializedTime - startTime);
+            metrics.addEvents(serializerState.getEvents().size());
+            metrics.addDocuments(1);
+            startTime = serializedTime;
+        }
+
+        Emitter.EmitterState emitterState = new Emitter.EmitterState(
+                serializerState.getEvents(), writeConfig.indentationPolicy(), writeConfig.canonical()
+        );
+        List<BString> content = Emitter.emit(emitterState, false);
+        if (metrics != null) {
+            metrics.addEmissionTime(System.nanoTime() - startTime);
+        }
+        return content;
+    }
 }
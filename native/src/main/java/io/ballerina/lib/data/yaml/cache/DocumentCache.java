@@ -0,0 +1,299 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.data.yaml.cache;
+
+import io.ballerina.lib.data.yaml.ModuleUtils;
+import io.ballerina.lib.data.yaml.utils.DiagnosticLog;
+import io.ballerina.lib.data.yaml.utils.OptionsUtils;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BRefValue;
+import io.ballerina.runtime.api.values.BString;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Least recently used cache of the readonly values parsed by `parseStringWithCache` and `parseBytesWithCache`.
+ * The cache is configured from the `documentCacheConfig` configurable of the Ballerina module.
+ * <p>
+ * A document is identified by the SHA-256 digest and the size of its content along with the target type and the
+ * read options, so that the cache does not retain the content of the documents. Values which are not readonly are
+ * never cached, as the same value is returned to all the callers. The documents are spread over segments, each
+ * evicting its least recently used document, so that concurrent lookups of different documents do not contend on
+ * a single lock.
+ *
+ * @since 0.1.0
+ */
+public class DocumentCache {
+
+    private static final int DEFAULT_CAPACITY = 128;
+    private static final int DEFAULT_MAX_DOCUMENT_SIZE = 1024 * 1024;
+    private static final String STATISTICS_TYPE = "DocumentCacheStatistics";
+    private static final BString CAPACITY = StringUtils.fromString("capacity");
+    private static final BString MAX_DOCUMENT_SIZE = StringUtils.fromString("maxDocumentSize");
+    private static final int MAX_SEGMENT_COUNT = 16;
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    private static final int DIGEST_BUFFER_SIZE = 4096;
+    // Represents a cached nil value, as a null value represents a cache miss
+    private static final Object NIL_VALUE = new Object();
+
+    private static final LongAdder HITS = new LongAdder();
+    private static final LongAdder MISSES = new LongAdder();
+    private static final LongAdder EVICTIONS = new LongAdder();
+
+    private static volatile Store store = new Store(DEFAULT_CAPACITY);
+    private static volatile int maxDocumentSize = DEFAULT_MAX_DOCUMENT_SIZE;
+
+    private DocumentCache() {
+    }
+
+    /**
+     * Recreates the cache with the given configurations, dropping the cached documents.
+     *
+     * @param config document cache configurations
+     * @return error if the configurations are invalid, else null
+     */
+    public static Object initDocumentCache(BMap<BString, Object> config) {
+        long capacity = (Long) config.get(CAPACITY);
+        long documentSize = (Long) config.get(MAX_DOCUMENT_SIZE);
+        if (capacity < 0 || capacity > Integer.MAX_VALUE || documentSize < 0 || documentSize > Integer.MAX_VALUE) {
+            return DiagnosticLog.getYamlError("invalid document cache configuration: capacity: " + capacity
+                    + ", maxDocumentSize: " + documentSize);
+        }
+        maxDocumentSize = (int) documentSize;
+        store = new Store((int) capacity);
+        return null;
+    }
+
+    public static void clearDocumentCache() {
+        store.clear();
+    }
+
+    public static BMap<BString, Object> getDocumentCacheStatistics() {
+        return ValueCreator.createRecordValue(ModuleUtils.getModule(), STATISTICS_TYPE, Map.of(
+                "hits", HITS.sum(),
+                "misses", MISSES.sum(),
+                "evictions", EVICTIONS.sum(),
+                "size", (long) store.size()));
+    }
+
+    /**
+     * Returns the cached value of the given document, or parses and caches it.
+     *
+     * @param content content of the document, either a {@link String} or a byte[]
+     * @param contentSize number of characters or bytes of the content
+     * @param readConfig read options
+     * @param enableConstraintValidation whether the constraints are validated
+     * @param type target type
+     * @param parser function which parses the document
+     * @return parsed value or error
+     */
+    public static Object getOrParse(Object content, int contentSize, OptionsUtils.ReadConfig readConfig,
+                                    boolean enableConstraintValidation, Type type, Supplier<Object> parser) {
+        Store currentStore = store;
+        if (currentStore.capacity == 0 || contentSize > maxDocumentSize) {
+            return parser.get();
+        }
+
+        Key key = new Key(digest(content), contentSize, content instanceof byte[], readConfig,
+                enableConstraintValidation, type);
+        Object cachedValue = currentStore.get(key);
+        if (cachedValue != null) {
+            HITS.increment();
+            return cachedValue == NIL_VALUE ? null : cachedValue;
+        }
+
+        // Concurrent misses of the same document are parsed independently, instead of blocking on each other
+        MISSES.increment();
+        Object value = parser.get();
+        if (value == null) {
+            currentStore.put(key, NIL_VALUE);
+        } else if (!(value instanceof BError) && (!(value instanceof BRefValue refValue) || refValue.isFrozen())) {
+            currentStore.put(key, value);
+        }
+        return value;
+    }
+
+    /**
+     * Returns the SHA-256 digest of the given content. The characters of a string are digested in chunks, so that
+     * the content is not copied to encode it.
+     */
+    private static byte[] digest(Object content) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+        if (content instanceof byte[] bytes) {
+            return digest.digest(bytes);
+        }
+        String string = (String) content;
+        byte[] buffer = new byte[DIGEST_BUFFER_SIZE];
+        int bufferIndex = 0;
+        for (int i = 0; i < string.length(); i++) {
+            if (bufferIndex == buffer.length) {
+                digest.update(buffer, 0, bufferIndex);
+                bufferIndex = 0;
+            }
+            char c = string.charAt(i);
+            buffer[bufferIndex++] = (byte) (c >> 8);
+            buffer[bufferIndex++] = (byte) c;
+        }
+        digest.update(buffer, 0, bufferIndex);
+        return digest.digest();
+    }
+
+    /**
+     * Identifies a parsed document by the digest of its content, read options and target type.
+     */
+    private static final class Key {
+
+        private final byte[] digest;
+        private final int contentSize;
+        private final boolean binaryContent;
+        private final OptionsUtils.ReadConfig readConfig;
+        private final boolean enableConstraintValidation;
+        private final Type type;
+        private final int hash;
+
+        Key(byte[] digest, int contentSize, boolean binaryContent, OptionsUtils.ReadConfig readConfig,
+            boolean enableConstraintValidation, Type type) {
+            this.digest = digest;
+            this.contentSize = contentSize;
+            this.binaryContent = binaryContent;
+            this.readConfig = readConfig;
+            this.enableConstraintValidation = enableConstraintValidation;
+            this.type = type;
+            this.hash = 31 * (31 * Arrays.hashCode(digest) + readConfig.hashCode()) + System.identityHashCode(type);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            return obj instanceof Key other && hash == other.hash && type == other.type
+                    && contentSize == other.contentSize && binaryContent == other.binaryContent
+                    && enableConstraintValidation == other.enableConstraintValidation
+                    && readConfig.equals(other.readConfig) && Arrays.equals(digest, other.digest);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * Documents spread over access ordered segments. Each segment evicts its least recently used document once
+     * its share of the capacity is exceeded.
+     */
+    private static final class Store {
+
+        private final int capacity;
+        private final Segment[] segments;
+
+        Store(int capacity) {
+            this.capacity = capacity;
+            int segmentCount = Integer.highestOneBit(Math.max(1, Math.min(MAX_SEGMENT_COUNT, capacity)));
+            this.segments = new Segment[segmentCount];
+            for (int i = 0; i < segmentCount; i++) {
+                // The remainder of the capacity is shared by the first segments
+                segments[i] = new Segment(capacity / segmentCount + (i < capacity % segmentCount ? 1 : 0));
+            }
+        }
+
+        Object get(Key key) {
+            return segmentOf(key).get(key);
+        }
+
+        void put(Key key, Object value) {
+            segmentOf(key).put(key, value);
+        }
+
+        void clear() {
+            for (Segment segment : segments) {
+                segment.clear();
+            }
+        }
+
+        int size() {
+            int size = 0;
+            for (Segment segment : segments) {
+                size += segment.size();
+            }
+            return size;
+        }
+
+        private Segment segmentOf(Key key) {
+            int hash = key.hash ^ (key.hash >>> 16);
+            return segments[hash & (segments.length - 1)];
+        }
+    }
+
+    /**
+     * Access ordered map which evicts the least recently used document once the capacity is exceeded.
+     */
+    private static final class Segment {
+
+        private final int capacity;
+        private final Map<Key, Object> documents;
+
+        Segment(int capacity) {
+            this.capacity = capacity;
+            this.documents = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Key, Object> eldest) {
+                    if (size() <= Segment.this.capacity) {
+                        return false;
+                    }
+                    EVICTIONS.increment();
+                    return true;
+                }
+            };
+        }
+
+        synchronized Object get(Key key) {
+            return documents.get(key);
+        }
+
+        synchronized void put(Key key, Object value) {
+            documents.put(key, value);
+        }
+
+        synchronized void clear() {
+            documents.clear();
+        }
+
+        synchronized int size() {
+            return documents.size();
+        }
+    }
+}
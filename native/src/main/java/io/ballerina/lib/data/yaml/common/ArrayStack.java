@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.data.yaml.common;
+
+import java.util.Arrays;
+import java.util.EmptyStackException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Unsynchronized array-backed stack, used in place of {@link java.util.Stack} by the lexer and the composer
+ * which are confined to a single thread. Null elements are allowed. The iteration order is from the bottom to
+ * the top of the stack, the same as {@link java.util.Stack}.
+ *
+ * @param <T> type of the elements
+ * @since 0.1.0
+ */
+public class ArrayStack<T> implements Iterable<T> {
+
+    private static final int DEFAULT_CAPACITY = 8;
+
+    private Object[] elements = new Object[DEFAULT_CAPACITY];
+    private int size = 0;
+
+    public void push(T element) {
+        if (size == elements.length) {
+            elements = Arrays.copyOf(elements, size << 1);
+        }
+        elements[size++] = element;
+    }
+
+    public T pop() {
+        if (size == 0) {
+            throw new EmptyStackException();
+        }
+        T element = elementAt(--size);
+        elements[size] = null;
+        return element;
+    }
+
+    public T peek() {
+        if (size == 0) {
+            throw new EmptyStackException();
+        }
+        return elementAt(size - 1);
+    }
+
+    /**
+     * Returns the element at the given position from the bottom of the stack.
+     *
+     * @param index position from the bottom of the stack
+     * @return element at the position
+     */
+    public T get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return elementAt(index);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(elements, 0, size, null);
+        size = 0;
+    }
+
+    public Stream<T> stream() {
+        return IntStream.range(0, size).mapToObj(this::elementAt);
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public T next() {
+                if (index >= size) {
+                    throw new NoSuchElementException();
+                }
+                return elementAt(index++);
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private T elementAt(int index) {
+        return (T) elements[index];
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.data.yaml.common;
+
+import java.util.Arrays;
+import java.util.EmptyStackException;
+
+/**
+ * Unsynchronized array-backed stack of primitive int values, which avoids boxing the elements.
+ *
+ * @since 0.1.0
+ */
+public class IntStack {
+
+    private static final int DEFAULT_CAPACITY = 8;
+
+    private int[] elements = new int[DEFAULT_CAPACITY];
+    private int size = 0;
+
+    public void push(int element) {
+        if (size == elements.length) {
+            elements = Arrays.copyOf(elements, size << 1);
+        }
+        elements[size++] = element;
+    }
+
+    public int pop() {
+        if (size == 0) {
+            throw new EmptyStackException();
+        }
+        return elements[--size];
+    }
+
+    public int peek() {
+        if (size == 0) {
+            throw new EmptyStackException();
+        }
+        return elements[size - 1];
+    }
+
+    /**
+     * Increments the element at the top of the stack.
+     */
+    public void incrementTop() {
+        if (size == 0) {
+            throw new EmptyStackException();
+        }
+        elements[size - 1]++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+}
@@ -24,6 +24,7 @@ import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BString;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 
 import static io.ballerina.lib.data.yaml.utils.Constants.DEFAULT_GLOBAL_TAG_HANDLE;
@@ -51,9 +52,14 @@ public class Emitter {
         // If set, the tag is written explicitly along with the value
         final boolean canonical;
         boolean lastBareDoc = false;
-        final List<YamlEvent> events;
+        // Events are consumed in order, hence they can be produced while the emitter proceeds
+        final Iterator<YamlEvent> events;
 
         public EmitterState(List<YamlEvent> events, int indentationPolicy, boolean canonical) {
+            this(events.iterator(), indentationPolicy, canonical);
+        }
+
+        public EmitterState(Iterator<YamlEvent> events, int indentationPolicy, boolean canonical) {
             this.events = events;
             this.canonical = canonical;
             this.document = new ArrayList<>();
@@ -84,7 +90,7 @@ public class Emitter {
         if (isStream) {
             List<BString> output = new ArrayList<>();
             boolean isFirstEvent = true;
-            while (!state.events.isEmpty()) {
+            while (state.events.hasNext()) {
                 write(state);
                 output.addAll(state.getDocument(!isFirstEvent));
                 isFirstEvent = false;
@@ -308,7 +314,7 @@ public class Emitter {
     }
 
     public static YamlEvent getEvent(Emitter.EmitterState state) {
-        return state.events.remove(0);
+        return state.events.next();
     }
 
     public static String appendTagToValue(boolean tagAsSuffix, String tag, String value) {
@@ -30,9 +30,25 @@ import io.ballerina.runtime.api.values.BString;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
+/**
+ * Input stream backed by a Ballerina byte-block stream. Blocks can optionally be read ahead on the data reader
+ * worker pool, so the I/O of the next blocks overlaps with parsing of the current block.
+ *
+ * @since 0.1.0
+ */
 public class BallerinaByteBlockInputStream extends InputStream {
 
+    private static final Object END_OF_STREAM = new Object();
+    private static final byte[] EMPTY_CHUNK = new byte[0];
+    private static final long READ_AHEAD_POLL_INTERVAL = 100L;
+
     private final BObject iterator;
     private final Environment env;
     private final String nextMethodName;
@@ -40,8 +56,13 @@ public class BallerinaByteBlockInputStream extends InputStream {
     private final MethodType closeMethod;
     private BError error = null;
 
-    private byte[] currentChunk = new byte[0];
+    private byte[] currentChunk = EMPTY_CHUNK;
     private int nextChunkIndex = 0;
+    private long readBytes = 0;
+    private BlockingQueue<Object> readAheadBlocks = null;
+    private volatile boolean readAheadStopped = false;
+    // Held by the read-ahead while it calls the iterator, so that the iterator is not closed during the call
+    private final Lock fetchLock = new ReentrantLock();
 
     public BallerinaByteBlockInputStream(Environment env, BObject iterator, MethodType nextMethod,
                                          MethodType closeMethod) {
@@ -53,64 +74,188 @@ public class BallerinaByteBlockInputStream extends InputStream {
 
     @Override
     public int read() {
-        if (this.done) {
+        if (!fillCurrentChunk()) {
             return -1;
         }
-        if (hasBytesInCurrentChunk()) {
-            return currentChunk[nextChunkIndex++];
+        return currentChunk[nextChunkIndex++] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, buffer.length);
+        if (length == 0) {
+            return 0;
         }
-        // Need to get a new block from the stream, before reading again.
-        nextChunkIndex = 0;
-        try {
-            if (readNextChunk()) {
-                return read();
-            }
-        } catch (InterruptedException e) {
-            this.error = DiagnosticLog.getYamlError("Cannot read the stream, interrupted error");
+        if (!fillCurrentChunk()) {
             return -1;
         }
-        return -1;
+        int count = Math.min(length, currentChunk.length - nextChunkIndex);
+        System.arraycopy(currentChunk, nextChunkIndex, buffer, offset, count);
+        nextChunkIndex += count;
+        return count;
+    }
+
+    @Override
+    public int available() {
+        return currentChunk.length - nextChunkIndex;
+    }
+
+    /**
+     * Starts prefetching the blocks of the stream in the background, keeping at most the given number of blocks
+     * buffered. Blocks are read synchronously if the worker pool cannot accept the read-ahead task.
+     *
+     * @param blockCount maximum number of blocks buffered ahead of the parser
+     */
+    public void startReadAhead(int blockCount) {
+        if (blockCount <= 0 || readAheadBlocks != null) {
+            return;
+        }
+        BlockingQueue<Object> blocks = new ArrayBlockingQueue<>(blockCount);
+        if (DataReaderThreadPool.tryExecute(() -> prefetchBlocks(blocks))) {
+            readAheadBlocks = blocks;
+        }
+    }
+
+    /**
+     * Stops the background read-ahead. Blocks which are already buffered are discarded. Waits until a block
+     * which is being read by the read-ahead is received, so that the iterator is not used after this returns.
+     */
+    public void stopReadAhead() {
+        readAheadStopped = true;
+        if (readAheadBlocks != null) {
+            readAheadBlocks.clear();
+            fetchLock.lock();
+            fetchLock.unlock();
+        }
     }
 
     @Override
     public void close() throws IOException {
         super.close();
+        stopReadAhead();
         if (closeMethod != null) {
             env.getRuntime().callMethod(iterator, closeMethod.getName(), null);
         }
     }
 
     private boolean hasBytesInCurrentChunk() {
-        return currentChunk.length != 0 && nextChunkIndex < currentChunk.length;
+        return nextChunkIndex < currentChunk.length;
     }
 
-    private boolean readNextChunk() throws InterruptedException {
+    private boolean fillCurrentChunk() {
+        // Empty blocks are skipped, hence loop until a block with bytes or the end of the stream
+        while (!hasBytesInCurrentChunk()) {
+            if (this.done) {
+                return false;
+            }
+            // Need to get a new block from the stream, before reading again.
+            nextChunkIndex = 0;
+            try {
+                readNextChunk();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                this.error = DiagnosticLog.getYamlError("Cannot read the stream, interrupted error");
+                this.done = true;
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void readNextChunk() throws InterruptedException {
+        Object block = readAheadBlocks == null ? fetchNextBlock(false) : readAheadBlocks.take();
+        if (block instanceof byte[] chunk) {
+            currentChunk = chunk;
+            readBytes += chunk.length;
+            return;
+        }
+        this.done = true;
+        currentChunk = EMPTY_CHUNK;
+        if (block instanceof BError bError) {
+            this.error = bError;
+        }
+    }
+
+    private void prefetchBlocks(BlockingQueue<Object> blocks) {
+        Object block;
+        do {
+            fetchLock.lock();
+            try {
+                if (readAheadStopped) {
+                    return;
+                }
+                block = fetchNextBlock(true);
+            } catch (Throwable e) {
+                // Unblock the parser waiting for the next block, which reports the failure
+                offerBlock(blocks, DiagnosticLog.getYamlError("Error occurred while reading the stream: "
+                        + e.getMessage()));
+                if (e instanceof java.lang.Error error) {
+                    throw error;
+                }
+                return;
+            } finally {
+                fetchLock.unlock();
+            }
+            if (!offerBlock(blocks, block)) {
+                return;
+            }
+        } while (block instanceof byte[]);
+    }
+
+    private boolean offerBlock(BlockingQueue<Object> blocks, Object block) {
+        try {
+            while (!readAheadStopped) {
+                if (blocks.offer(block, READ_AHEAD_POLL_INTERVAL, TimeUnit.MILLISECONDS)) {
+                    return true;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return false;
+    }
 
+    private Object fetchNextBlock(boolean copyBlock) {
         try {
             Object result = env.getRuntime().callMethod(iterator, nextMethodName, null);
             if (result == null) {
-                this.done = true;
-                return !this.done;
+                return END_OF_STREAM;
             }
             if (result instanceof BMap<?, ?>) {
                 BMap<BString, Object> valueRecord = (BMap<BString, Object>) result;
                 final BString value = Arrays.stream(valueRecord.getKeys()).findFirst().get();
                 final BArray arrayValue = valueRecord.getArrayValue(value);
-                currentChunk = arrayValue.getByteArray();
-            } else {
-                // Case where Completes with an error
-                this.done = true;
+                // The backing array of the block is handed over without copying, unless it has unused capacity
+                // or it is buffered by the read-ahead, since the stream may reuse it for the following blocks
+                byte[] chunk = arrayValue.getByteArray();
+                int size = arrayValue.size();
+                return chunk.length == size && !copyBlock ? chunk : Arrays.copyOf(chunk, size);
             }
+            if (result instanceof BError bError) {
+                // Case where the stream completes with an error
+                return createStreamError(bError);
+            }
+            return END_OF_STREAM;
         } catch (BError bError) {
-            // Panic with an error
-            this.done = true;
-            currentChunk = new byte[0];
-            // TODO : Should we panic here?
+            // Case where the stream panics
+            return createStreamError(bError);
         }
-        return !this.done;
+    }
+
+    private static BError createStreamError(BError cause) {
+        return DiagnosticLog.getYamlError("Error occurred while reading the stream: " + cause.getMessage(), cause);
     }
 
     public BError getError() {
         return this.error;
     }
+
+    /**
+     * Returns the number of bytes received from the stream, excluding the blocks buffered by the read-ahead.
+     *
+     * @return number of bytes
+     */
+    public long getReadBytes() {
+        return readBytes;
+    }
 }
@@ -18,21 +18,200 @@
 
 package io.ballerina.lib.data.yaml.io;
 
+import io.ballerina.lib.data.yaml.utils.DiagnosticLog;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntFunction;
 
+/**
+ * Worker pool used to run the parallel stream processing and the stream read-ahead tasks.
+ * The pool is configured from the `workerPoolConfig` configurable of the Ballerina module.
+ *
+ * @since 0.1.0
+ */
 public class DataReaderThreadPool {
 
-    // TODO : Make this configurable, in Ballerina Library.
-    private static final int CORE_POOL_SIZE = 0;
-    private static final int MAX_POOL_SIZE = 50;
-    private static final long KEEP_ALIVE_TIME = 60L;
+    private static final int DEFAULT_CORE_POOL_SIZE = 0;
+    private static final int DEFAULT_MAX_POOL_SIZE = 50;
+    private static final long DEFAULT_KEEP_ALIVE_TIME = 60000L;
     private static final String THREAD_NAME = "bal-data-yaml-thread";
-    public static final ExecutorService EXECUTOR_SERVICE = new ThreadPoolExecutor(CORE_POOL_SIZE,
-            MAX_POOL_SIZE, KEEP_ALIVE_TIME, TimeUnit.SECONDS, new SynchronousQueue<>(), new DataThreadFactory());
+    private static final BString CORE_POOL_SIZE = StringUtils.fromString("corePoolSize");
+    private static final BString MAX_POOL_SIZE = StringUtils.fromString("maxPoolSize");
+    private static final BString KEEP_ALIVE_TIME = StringUtils.fromString("keepAliveTime");
+    private static final BString QUEUE_CAPACITY = StringUtils.fromString("queueCapacity");
+    private static final BString USE_VIRTUAL_THREADS = StringUtils.fromString("useVirtualThreads");
+
+    private static final LongAdder SUBMITTED_TASKS = new LongAdder();
+    private static final LongAdder COMPLETED_TASKS = new LongAdder();
+    private static final LongAdder REJECTED_TASKS = new LongAdder();
+    private static final AtomicInteger ACTIVE_TASKS = new AtomicInteger();
+
+    private static volatile ExecutorService executorService = createThreadPool(DEFAULT_CORE_POOL_SIZE,
+            DEFAULT_MAX_POOL_SIZE, DEFAULT_KEEP_ALIVE_TIME, 0);
+
+    private DataReaderThreadPool() {
+    }
+
+    /**
+     * Recreates the worker pool with the given configurations. Tasks submitted to the previous pool are allowed
+     * to complete.
+     *
+     * @param config worker pool configurations
+     * @return error if the configurations are invalid, else null
+     */
+    public static Object initWorkerPool(BMap<BString, Object> config) {
+        ExecutorService newExecutorService;
+        if ((Boolean) config.get(USE_VIRTUAL_THREADS)) {
+            newExecutorService = Executors.newThreadPerTaskExecutor(
+                    Thread.ofVirtual().name(THREAD_NAME + "-", 0).factory());
+        } else {
+            int corePoolSize = Math.toIntExact((Long) config.get(CORE_POOL_SIZE));
+            int maxPoolSize = Math.toIntExact((Long) config.get(MAX_POOL_SIZE));
+            long keepAliveTime = ((BDecimal) config.get(KEEP_ALIVE_TIME)).decimalValue()
+                    .movePointRight(3).longValue();
+            int queueCapacity = Math.toIntExact((Long) config.get(QUEUE_CAPACITY));
+            if (corePoolSize < 0 || maxPoolSize <= 0 || maxPoolSize < corePoolSize || keepAliveTime < 0
+                    || queueCapacity < 0) {
+                return DiagnosticLog.getYamlError("invalid worker pool configuration: corePoolSize: " + corePoolSize
+                        + ", maxPoolSize: " + maxPoolSize + ", keepAliveTime: " + keepAliveTime
+                        + "ms, queueCapacity: " + queueCapacity);
+            }
+            newExecutorService = createThreadPool(corePoolSize, maxPoolSize, keepAliveTime, queueCapacity);
+        }
+        ExecutorService previousExecutorService = executorService;
+        executorService = newExecutorService;
+        previousExecutorService.shutdown();
+        return null;
+    }
+
+    /**
+     * Submits the given task to the worker pool. If the pool is saturated the task is executed in the
+     * calling thread, hence the caller is throttled instead of failing.
+     *
+     * @param task task to be executed
+     * @return future representing the result of the task
+     */
+    public static <T> Future<T> submit(Callable<T> task) {
+        FutureTask<T> future = new FutureTask<>(task);
+        if (!tryExecute(future)) {
+            future.run();
+        }
+        return future;
+    }
+
+    /**
+     * Executes the given task for each index in the range [0, count) on the worker pool and returns the results
+     * in the index order.
+     *
+     * @param count number of tasks
+     * @param task task to be executed for each index
+     * @return results of the tasks
+     */
+    public static <T> List<T> mapInParallel(int count, IntFunction<T> task) {
+        List<Future<T>> futures = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int index = i;
+            futures.add(submit(() -> task.apply(index)));
+        }
+
+        List<T> results = new ArrayList<>(count);
+        for (Future<T> future : futures) {
+            results.add(getResult(future));
+        }
+        return results;
+    }
+
+    private static <T> T getResult(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw DiagnosticLog.getYamlError("interrupted while waiting for the worker pool");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof java.lang.Error error) {
+                throw error;
+            }
+            throw DiagnosticLog.getYamlError(cause.getMessage());
+        }
+    }
+
+    /**
+     * Submits the given task to the worker pool without blocking the calling thread.
+     *
+     * @param task task to be executed
+     * @return true if the task is accepted by the pool, false if the pool is saturated
+     */
+    public static boolean tryExecute(Runnable task) {
+        SUBMITTED_TASKS.increment();
+        try {
+            executorService.execute(() -> {
+                ACTIVE_TASKS.incrementAndGet();
+                try {
+                    task.run();
+                } finally {
+                    ACTIVE_TASKS.decrementAndGet();
+                    COMPLETED_TASKS.increment();
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            REJECTED_TASKS.increment();
+            return false;
+        }
+    }
+
+    /**
+     * Returns a snapshot of the task counters of the worker pool.
+     *
+     * @return worker pool statistics
+     */
+    public static Statistics getStatistics() {
+        return new Statistics(SUBMITTED_TASKS.sum(), COMPLETED_TASKS.sum(), REJECTED_TASKS.sum(),
+                ACTIVE_TASKS.get());
+    }
+
+    private static ExecutorService createThreadPool(int corePoolSize, int maxPoolSize, long keepAliveTime,
+                                                    int queueCapacity) {
+        BlockingQueue<Runnable> workQueue = queueCapacity > 0 ?
+                new ArrayBlockingQueue<>(queueCapacity) : new SynchronousQueue<>();
+        return new ThreadPoolExecutor(corePoolSize, maxPoolSize, keepAliveTime, TimeUnit.MILLISECONDS, workQueue,
+                new DataThreadFactory(), new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Represents the task counters of the worker pool.
+     *
+     * @param submittedTasks number of tasks submitted to the pool
+     * @param completedTasks number of tasks completed by the pool
+     * @param rejectedTasks number of tasks rejected as the pool is saturated
+     * @param activeTasks number of tasks being executed at the moment
+     */
+    public record Statistics(long submittedTasks, long completedTasks, long rejectedTasks, int activeTasks) {
+    }
 
     /**
      * Thread factory for data reader.
@@ -41,10 +220,13 @@ public class DataReaderThreadPool {
      */
     static class DataThreadFactory implements ThreadFactory {
 
+        private final AtomicInteger threadCount = new AtomicInteger();
+
         @Override
         public Thread newThread(Runnable runnable) {
             Thread ballerinaData = new Thread(runnable);
-            ballerinaData.setName(THREAD_NAME);
+            ballerinaData.setName(THREAD_NAME + "-" + threadCount.incrementAndGet());
+            ballerinaData.setDaemon(true);
             return ballerinaData;
         }
     }
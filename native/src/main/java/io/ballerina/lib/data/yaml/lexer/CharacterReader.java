@@ -32,7 +32,8 @@ import java.util.Arrays;
  * @since 0.1.0
  */
 public class CharacterReader {
-    private final Reader reader;
+    private static final int[] EMPTY_DATA_BUFFER = new int[0];
+    private Reader reader;
     private final char[] buff; // data chucks are read into this buffer
     private int[] dataBuffer; // store the read characters as code points
     private int dataBufferSize = 0; // length of the data buffer
@@ -41,13 +42,31 @@ public class CharacterReader {
     private boolean eof = false; // flag saying end of the stream reached
     private int line = 1; // current line number
     private int column = 0; // current column number
+    private long readCodePoints = 0; // number of code points read from the reader
 
     public CharacterReader(Reader reader) {
         this.reader = reader;
-        this.dataBuffer = new int[0];
+        this.dataBuffer = EMPTY_DATA_BUFFER;
         this.buff = new char[1024];
     }
 
+    /**
+     * Resets the reader to consume the given input, reusing the read buffer.
+     *
+     * @param reader input to be consumed, or null to release the current input
+     */
+    public void reset(Reader reader) {
+        this.reader = reader;
+        this.dataBuffer = EMPTY_DATA_BUFFER;
+        this.dataBufferSize = 0;
+        this.remainingBufferedSize = 0;
+        this.pointer = 0;
+        this.eof = false;
+        this.line = 1;
+        this.column = 0;
+        this.readCodePoints = 0;
+    }
+
     /**
      * Peeks the k-th indexed code point.
      *
@@ -116,6 +135,7 @@ public class CharacterReader {
                     throw new Error.YamlParserException("non printable character found", line, column);
                 }
             }
+            readCodePoints += cpIndex - (dataBufferSize - pointer);
             dataBufferSize = cpIndex;
             remainingBufferedSize = dataBufferSize;
             pointer = 0;
@@ -162,4 +182,8 @@ public class CharacterReader {
     public int getRemainingBufferedSize() {
         return remainingBufferedSize;
     }
+
+    public long getReadCodePoints() {
+        return readCodePoints;
+    }
 }
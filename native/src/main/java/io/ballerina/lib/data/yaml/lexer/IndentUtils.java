@@ -268,7 +268,7 @@ public class IndentUtils {
             if (removedSecondIndent.column() == startIndex && collection == Collection.MAPPING) {
                 returnCollection.add(removedIndent.collection());
             } else {
-                sm.getIndents().add(removedSecondIndent);
+                sm.getIndents().push(removedSecondIndent);
             }
         }
 
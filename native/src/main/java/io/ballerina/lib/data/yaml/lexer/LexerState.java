@@ -18,11 +18,12 @@
 
 package io.ballerina.lib.data.yaml.lexer;
 
+import io.ballerina.lib.data.yaml.common.ArrayStack;
 import io.ballerina.lib.data.yaml.utils.Error;
 
+import java.io.Reader;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Stack;
 
 import static io.ballerina.lib.data.yaml.lexer.Scanner.COMMENT_SCANNER;
 import static io.ballerina.lib.data.yaml.lexer.Scanner.VERBATIM_URI_SCANNER;
@@ -98,7 +99,7 @@ public class LexerState {
     private boolean indentationBreak = false;
     private boolean enforceMapping = false;
     private boolean keyDefinedForLine = false;
-    private Stack<IndentUtils.Indent> indents = new Stack<>();
+    private ArrayStack<IndentUtils.Indent> indents = new ArrayStack<>();
     private List<Token.TokenType> tokensForMappingValue = new ArrayList<>();
     private boolean isJsonKey = false;
     private int mappingKeyColumn = -1;
@@ -114,6 +115,38 @@ public class LexerState {
         this.characterReader = characterReader;
     }
 
+    /**
+     * Resets the lexer to scan the given input, reusing the character reader and the collections.
+     *
+     * @param reader input to be scanned, or null to release the current input
+     */
+    public void reset(Reader reader) {
+        characterReader.reset(reader);
+        state = LEXER_START_STATE;
+        token = null;
+        lexeme = "";
+        lexemeBuffer = "";
+        indentation = null;
+        tabInWhitespace = -1;
+        numOpenedFlowCollections = 0;
+        indent = -1;
+        indentStartIndex = -1;
+        indentationBreak = false;
+        enforceMapping = false;
+        keyDefinedForLine = false;
+        indents.clear();
+        tokensForMappingValue.clear();
+        isJsonKey = false;
+        mappingKeyColumn = -1;
+        addIndent = 1;
+        captureIndent = false;
+        firstLine = true;
+        trailingComment = false;
+        allowTokensAsPlanar = false;
+        lastEscapedChar = -1;
+        eofStream = false;
+    }
+
     public int peek() {
         return peek(0);
     }
@@ -150,7 +183,7 @@ public class LexerState {
         enforceMapping = false;
         indentStartIndex = -1;
         indent = -1;
-        indents = new Stack<>();
+        indents = new ArrayStack<>();
         lexeme = "";
         state = LEXER_START_STATE;
     }
@@ -192,6 +225,10 @@ public class LexerState {
         return characterReader.getRemainingBufferedSize();
     }
 
+    public long getReadCodePoints() {
+        return characterReader.getReadCodePoints();
+    }
+
     public boolean isFlowCollection() {
         return numOpenedFlowCollections > 0;
     }
@@ -236,7 +273,7 @@ public class LexerState {
         this.keyDefinedForLine = keyDefinedForLine;
     }
 
-    public Stack<IndentUtils.Indent> getIndents() {
+    public ArrayStack<IndentUtils.Indent> getIndents() {
         return indents;
     }
 
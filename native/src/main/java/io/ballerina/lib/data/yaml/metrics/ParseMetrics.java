@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.data.yaml.metrics;
+
+/**
+ * Metrics of a single parse operation. An instance is populated by the parser of a single operation, and is
+ * handed over to the listeners once the operation is completed. The times are in nanoseconds.
+ *
+ * @since 0.1.0
+ */
+public class ParseMetrics {
+
+    private final String targetType;
+    private long inputBytes = -1;
+    private long inputCodePoints = 0;
+    private int documents = 0;
+    private long nodes = 0;
+    private long anchors = 0;
+    private long aliases = 0;
+    private long unionFallbacks = 0;
+    private long lexingTime = 0;
+    private long composingTime = 0;
+    private long constraintValidationTime = 0;
+    private long totalTime = 0;
+    private String errorMessage = null;
+
+    ParseMetrics(String targetType) {
+        this.targetType = targetType;
+    }
+
+    /**
+     * Returns an empty collector with the same target type, used to collect the metrics of a part of the
+     * operation which is executed in another thread.
+     *
+     * @return metrics collector
+     */
+    public ParseMetrics createChild() {
+        return new ParseMetrics(targetType);
+    }
+
+    /**
+     * Adds the counters of a part of the operation collected by a child collector.
+     *
+     * @param child child collector
+     */
+    public void merge(ParseMetrics child) {
+        inputCodePoints += child.inputCodePoints;
+        documents += child.documents;
+        nodes += child.nodes;
+        anchors += child.anchors;
+        aliases += child.aliases;
+        unionFallbacks += child.unionFallbacks;
+        lexingTime += child.lexingTime;
+        composingTime += child.composingTime;
+    }
+
+    public String getTargetType() {
+        return targetType;
+    }
+
+    /**
+     * Returns the size of the input in bytes.
+     *
+     * @return input size, or -1 if the size is not known
+     */
+    public long getInputBytes() {
+        return inputBytes;
+    }
+
+    public void setInputBytes(long inputBytes) {
+        this.inputBytes = inputBytes;
+    }
+
+    public long getInputCodePoints() {
+        return inputCodePoints;
+    }
+
+    public void addInputCodePoints(long codePoints) {
+        inputCodePoints += codePoints;
+    }
+
+    public int getDocuments() {
+        return documents;
+    }
+
+    public void addDocument() {
+        documents++;
+    }
+
+    /**
+     * Returns the number of scalar and collection nodes in the input, excluding the aliases.
+     *
+     * @return number of nodes
+     */
+    public long getNodes() {
+        return nodes;
+    }
+
+    public void addNode() {
+        nodes++;
+    }
+
+    public long getAnchors() {
+        return anchors;
+    }
+
+    public void addAnchor() {
+        anchors++;
+    }
+
+    public long getAliases() {
+        return aliases;
+    }
+
+    public void addAlias() {
+        aliases++;
+    }
+
+    /**
+     * Returns the number of values which are converted to the expected type after being composed, which is
+     * required for union types and for the documents of a stream.
+     *
+     * @return number of union fallbacks
+     */
+    public long getUnionFallbacks() {
+        return unionFallbacks;
+    }
+
+    public void addUnionFallback() {
+        unionFallbacks++;
+    }
+
+    public long getLexingTime() {
+        return lexingTime;
+    }
+
+    public void addLexingTime(long time) {
+        lexingTime += time;
+    }
+
+    /**
+     * Returns the time spent on parsing the tokens and constructing the values, excluding the lexing time.
+     *
+     * @return composition time
+     */
+    public long getCompositionTime() {
+        return Math.max(0, composingTime - lexingTime);
+    }
+
+    public void addComposingTime(long time) {
+        composingTime += time;
+    }
+
+    public long getConstraintValidationTime() {
+        return constraintValidationTime;
+    }
+
+    public void addConstraintValidationTime(long time) {
+        constraintValidationTime += time;
+    }
+
+    public long getTotalTime() {
+        return totalTime;
+    }
+
+    public void setTotalTime(long totalTime) {
+        this.totalTime = totalTime;
+    }
+
+    public boolean isSuccessful() {
+        return errorMessage == null;
+    }
+
+    /**
+     * Returns the message of the error returned by the operation.
+     *
+     * @return error message, or null if the operation succeeded
+     */
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public void setErrorMessage(String errorMessage) {
+        this.errorMessage = errorMessage;
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.data.yaml.metrics;
+
+/**
+ * Metrics of a single serialize operation. An instance is populated by the serializer of a single operation,
+ * and is handed over to the listeners once the operation is completed. The times are in nanoseconds.
+ *
+ * @since 0.1.0
+ */
+public class SerializeMetrics {
+
+    private int documents = 0;
+    private long events = 0;
+    private long outputLines = 0;
+    private long outputCodePoints = 0;
+    private long serializationTime = 0;
+    private long emissionTime = 0;
+    private long totalTime = 0;
+    private String errorMessage = null;
+
+    SerializeMetrics() {
+    }
+
+    /**
+     * Returns an empty collector, used to collect the metrics of a part of the operation which is executed in
+     * another thread.
+     *
+     * @return metrics collector
+     */
+    public SerializeMetrics createChild() {
+        return new SerializeMetrics();
+    }
+
+    /**
+     * Adds the counters of a part of the operation collected by a child collector.
+     *
+     * @param child child collector
+     */
+    public void merge(SerializeMetrics child) {
+        documents += child.documents;
+        events += child.events;
+        outputLines += child.outputLines;
+        outputCodePoints += child.outputCodePoints;
+        serializationTime += child.serializationTime;
+        emissionTime += child.emissionTime;
+    }
+
+    public int getDocuments() {
+        return documents;
+    }
+
+    public void addDocuments(int documents) {
+        this.documents += documents;
+    }
+
+    /**
+     * Returns the number of YAML events generated from the value, which is proportional to the number of nodes.
+     *
+     * @return number of events
+     */
+    public long getEvents() {
+        return events;
+    }
+
+    public void addEvents(long events) {
+        this.events += events;
+    }
+
+    public long getOutputLines() {
+        return outputLines;
+    }
+
+    public long getOutputCodePoints() {
+        return outputCodePoints;
+    }
+
+    public void addOutputLine(String line) {
+        outputLines++;
+        outputCodePoints += line.codePointCount(0, line.length());
+    }
+
+    public long getSerializationTime() {
+        return serializationTime;
+    }
+
+    public void addSerializationTime(long time) {
+        serializationTime += time;
+    }
+
+    public long getEmissionTime() {
+        return emissionTime;
+    }
+
+    public void addEmissionTime(long time) {
+        emissionTime += time;
+    }
+
+    public long getTotalTime() {
+        return totalTime;
+    }
+
+    public void setTotalTime(long totalTime) {
+        this.totalTime = totalTime;
+    }
+
+    public boolean isSuccessful() {
+        return errorMessage == null;
+    }
+
+    /**
+     * Returns the message of the error raised by the operation.
+     *
+     * @return error message, or null if the operation succeeded
+     */
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public void setErrorMessage(String errorMessage) {
+        this.errorMessage = errorMessage;
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.data.yaml.metrics;
+
+import io.ballerina.runtime.api.types.Type;
+
+import java.util.List;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Registry of the {@link YamlMetricsListener}s. The metrics are only collected while at least one listener is
+ * registered, hence the parser and the serializer do not pay for the instrumentation otherwise.
+ *
+ * @since 0.1.0
+ */
+public class YamlMetrics {
+
+    private static final List<YamlMetricsListener> LISTENERS = new CopyOnWriteArrayList<>();
+    private static volatile boolean enabled = false;
+
+    static {
+        try {
+            for (YamlMetricsListener listener : ServiceLoader.load(YamlMetricsListener.class,
+                    YamlMetrics.class.getClassLoader())) {
+                LISTENERS.add(listener);
+            }
+        } catch (ServiceConfigurationError e) {
+            // A misconfigured provider must not prevent the module from being used
+        }
+        enabled = !LISTENERS.isEmpty();
+    }
+
+    private YamlMetrics() {
+    }
+
+    // Registrations are serialized, so that the flag is derived from the listeners of the last registration
+    public static synchronized void addListener(YamlMetricsListener listener) {
+        LISTENERS.add(listener);
+        enabled = !LISTENERS.isEmpty();
+    }
+
+    public static synchronized void removeListener(YamlMetricsListener listener) {
+        LISTENERS.remove(listener);
+        enabled = !LISTENERS.isEmpty();
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns a collector for a parse operation with the given target type.
+     *
+     * @param targetType target type of the parse operation
+     * @return metrics collector, or null if no listener is registered
+     */
+    public static ParseMetrics createParseMetrics(Type targetType) {
+        return enabled ? new ParseMetrics(targetType.toString()) : null;
+    }
+
+    /**
+     * Returns a collector for a serialize operation.
+     *
+     * @return metrics collector, or null if no listener is registered
+     */
+    public static SerializeMetrics createSerializeMetrics() {
+        return enabled ? new SerializeMetrics() : null;
+    }
+
+    public static void publish(ParseMetrics metrics) {
+        for (YamlMetricsListener listener : LISTENERS) {
+            try {
+                listener.onParse(metrics);
+            } catch (RuntimeException e) {
+                // A failing listener must not change the outcome of the operation
+            }
+        }
+    }
+
+    public static void publish(SerializeMetrics metrics) {
+        for (YamlMetricsListener listener : LISTENERS) {
+            try {
+                listener.onSerialize(metrics);
+            } catch (RuntimeException e) {
+                // A failing listener must not change the outcome of the operation
+            }
+        }
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.data.yaml.metrics;
+
+/**
+ * Receives the metrics of the parse and serialize operations. Listeners are registered either with
+ * {@link YamlMetrics#addListener(YamlMetricsListener)} or as a {@link java.util.ServiceLoader} provider, and are
+ * invoked in the thread which completed the operation.
+ *
+ * @since 0.1.0
+ */
+public interface YamlMetricsListener {
+
+    /**
+     * Invoked after a parse operation is completed, whether it succeeded or not.
+     *
+     * @param metrics metrics of the parse operation
+     */
+    default void onParse(ParseMetrics metrics) {
+    }
+
+    /**
+     * Invoked after a serialize operation is completed, whether it succeeded or not.
+     *
+     * @param metrics metrics of the serialize operation
+     */
+    default void onSerialize(SerializeMetrics metrics) {
+    }
+}
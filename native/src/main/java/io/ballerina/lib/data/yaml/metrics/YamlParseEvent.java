@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.data.yaml.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+import java.util.function.LongSupplier;
+
+/**
+ * JDK Flight Recorder event recorded for the parse operations which take longer than the threshold. The
+ * threshold can be changed with the `threshold` setting of the `ballerina.data.yaml.YamlParse` event.
+ *
+ * @since 0.1.0
+ */
+@Name("ballerina.data.yaml.YamlParse")
+@Label("YAML Parse")
+@Category({"Ballerina", "Data YAML"})
+@Description("Parsing of a YAML input into a Ballerina value")
+@Threshold("20 ms")
+@StackTrace(false)
+public class YamlParseEvent extends Event {
+
+    @Label("Input Size")
+    @Description("Size of the input in bytes, or -1 if the size is not known")
+    @DataAmount
+    long size;
+
+    @Label("Target Type")
+    String targetType;
+
+    @Label("Successful")
+    boolean successful;
+
+    /**
+     * Records the event if it is enabled and its duration exceeds the threshold.
+     *
+     * @param size supplier of the input size in bytes, which is only invoked if the event is recorded
+     * @param targetType target type of the parse operation
+     * @param successful whether the input is parsed without an error
+     */
+    public void commit(LongSupplier size, Object targetType, boolean successful) {
+        end();
+        if (shouldCommit()) {
+            this.size = size.getAsLong();
+            this.targetType = String.valueOf(targetType);
+            this.successful = successful;
+            commit();
+        }
+    }
+}
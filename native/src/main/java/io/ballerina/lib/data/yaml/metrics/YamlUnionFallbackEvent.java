@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.data.yaml.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * JDK Flight Recorder event recorded when a value has to be converted to the expected type after being
+ * composed, either by trying more than one member of a union type or by rebuilding the value. The threshold can
+ * be changed with the `threshold` setting of the `ballerina.data.yaml.YamlUnionFallback` event.
+ *
+ * @since 0.1.0
+ */
+@Name("ballerina.data.yaml.YamlUnionFallback")
+@Label("YAML Union Fallback")
+@Category({"Ballerina", "Data YAML"})
+@Description("Conversion of a composed value to a union type or to the element type of a stream")
+@Threshold("1 ms")
+@StackTrace(false)
+public class YamlUnionFallbackEvent extends Event {
+
+    public static final String UNION_MEMBER_RETRY = "UNION_MEMBER_RETRY";
+    public static final String VALUE_REBUILD = "VALUE_REBUILD";
+
+    @Label("Target Type")
+    String targetType;
+
+    @Label("Fallback Kind")
+    @Description("UNION_MEMBER_RETRY if more than one member is tried, VALUE_REBUILD if the value is rebuilt")
+    String fallbackKind;
+
+    @Label("Attempts")
+    @Description("Number of union members tried, or 0 if the value is rebuilt")
+    int attempts;
+
+    @Label("Successful")
+    boolean successful;
+
+    /**
+     * Records the event if it is enabled and its duration exceeds the threshold.
+     *
+     * @param targetType type the value is converted to
+     * @param fallbackKind kind of the fallback
+     * @param attempts number of union members tried
+     * @param successful whether the value is converted without an error
+     */
+    public void commit(Object targetType, String fallbackKind, int attempts, boolean successful) {
+        end();
+        if (shouldCommit()) {
+            this.targetType = String.valueOf(targetType);
+            this.fallbackKind = fallbackKind;
+            this.attempts = attempts;
+            this.successful = successful;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,251 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.data.yaml.parser;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splits a YAML stream into its documents by scanning for the document markers without lexing the content.
+ * A marker is only recognized at the start of a line, the same position the lexer accepts it. Since the YAML
+ * specification forbids such a line inside quoted and block scalars, no scalar context has to be tracked.
+ *
+ * @since 0.1.0
+ */
+public class DocumentBoundaryScanner {
+
+    private static final char DIRECTIVE_MARKER = '-';
+    private static final char DOCUMENT_MARKER = '.';
+    private static final int UTF8_BOM_LENGTH = 3;
+
+    private DocumentBoundaryScanner() {
+    }
+
+    /**
+     * Returns the bare content of each document in the given YAML stream, excluding the document markers.
+     *
+     * @param content YAML stream
+     * @return list of documents, or null if the stream cannot be split without changing its meaning
+     */
+    public static List<String> split(String content) {
+        if (content.isEmpty() || content.charAt(0) == '\uFEFF') {
+            return null;
+        }
+
+        List<String> documents = new ArrayList<>();
+        int length = content.length();
+        int lineStart = 0;
+        int documentStart = 0;
+        boolean explicitDocument = false;
+        while (lineStart < length) {
+            int lineEnd = content.indexOf('\n', lineStart);
+            if (lineEnd == -1) {
+                lineEnd = length;
+            }
+
+            // Directives may change the tag handles of the following documents
+            if (content.charAt(lineStart) == '%') {
+                return null;
+            }
+
+            boolean directiveMarker = isMarker(content, lineStart, lineEnd, DIRECTIVE_MARKER);
+            if (directiveMarker || isMarker(content, lineStart, lineEnd, DOCUMENT_MARKER)) {
+                // Nodes which start in the same line as the marker are not supported
+                if (directiveMarker && !isBlankOrComment(content, lineStart + 3, lineEnd)) {
+                    return null;
+                }
+                if (!addDocument(documents, content.substring(documentStart, lineStart), explicitDocument)) {
+                    return null;
+                }
+                explicitDocument = directiveMarker;
+                documentStart = Math.min(lineEnd + 1, length);
+            }
+            lineStart = lineEnd + 1;
+        }
+
+        if (!addDocument(documents, content.substring(documentStart), explicitDocument)) {
+            return null;
+        }
+        return documents;
+    }
+
+    /**
+     * Returns the byte ranges of the documents in the given UTF-8 encoded YAML stream. The range of a document
+     * starts at its directives or its directive marker, if any, and ends before the marker of the next document,
+     * so that each range can be parsed as a stream of a single document. Streams without any content except
+     * comments have no documents.
+     *
+     * @param content UTF-8 encoded YAML stream
+     * @return boundaries of the documents in the stream order
+     */
+    public static List<Boundary> index(byte[] content) {
+        List<Boundary> boundaries = new ArrayList<>();
+        int length = content.length;
+        int lineStart = startsWithByteOrderMark(content) ? UTF8_BOM_LENGTH : 0;
+        int line = 1;
+        int documentStart = lineStart;
+        int documentStartLine = line;
+        boolean explicitDocument = false;
+        boolean hasContent = false;
+        boolean hasDirectives = false;
+        while (lineStart < length) {
+            int lineEnd = indexOfNewLine(content, lineStart);
+            if (isMarker(content, lineStart, lineEnd, DIRECTIVE_MARKER)) {
+                if (hasContent || explicitDocument) {
+                    boundaries.add(new Boundary(documentStart, lineStart, documentStartLine, line - 1));
+                }
+                // Directives are part of the document which follows them
+                if (hasContent || explicitDocument || !hasDirectives) {
+                    documentStart = lineStart;
+                    documentStartLine = line;
+                }
+                explicitDocument = true;
+                hasContent = !isBlankOrComment(content, lineStart + 3, lineEnd);
+                hasDirectives = false;
+            } else if (isMarker(content, lineStart, lineEnd, DOCUMENT_MARKER)) {
+                if (hasContent || explicitDocument) {
+                    boundaries.add(new Boundary(documentStart, lineStart, documentStartLine, line - 1));
+                }
+                documentStart = Math.min(lineEnd + 1, length);
+                documentStartLine = line + 1;
+                explicitDocument = false;
+                hasContent = false;
+                hasDirectives = false;
+            } else if (!hasContent && !explicitDocument && content[lineStart] == '%') {
+                hasDirectives = true;
+            } else if (!isBlankOrComment(content, lineStart, lineEnd)) {
+                if (!hasContent && !explicitDocument && !hasDirectives) {
+                    // Comments and blank lines before the content are not part of the document
+                    documentStart = lineStart;
+                    documentStartLine = line;
+                }
+                hasContent = true;
+            }
+            lineStart = lineEnd + 1;
+            line++;
+        }
+
+        if (hasContent || explicitDocument) {
+            boundaries.add(new Boundary(documentStart, length, documentStartLine, line - 1));
+        }
+        return boundaries;
+    }
+
+    private static boolean addDocument(List<String> documents, String document, boolean explicitDocument) {
+        if (isBlankDocument(document)) {
+            // An explicit document without any content represents a null value
+            return !explicitDocument;
+        }
+        documents.add(document);
+        return true;
+    }
+
+    private static boolean isMarker(String content, int lineStart, int lineEnd, char marker) {
+        if (lineEnd - lineStart < 3) {
+            return false;
+        }
+        if (content.charAt(lineStart) != marker || content.charAt(lineStart + 1) != marker
+                || content.charAt(lineStart + 2) != marker) {
+            return false;
+        }
+        return lineEnd == lineStart + 3 || isWhiteSpace(content.charAt(lineStart + 3));
+    }
+
+    private static boolean isMarker(byte[] content, int lineStart, int lineEnd, char marker) {
+        if (lineEnd - lineStart < 3) {
+            return false;
+        }
+        if (content[lineStart] != marker || content[lineStart + 1] != marker || content[lineStart + 2] != marker) {
+            return false;
+        }
+        return lineEnd == lineStart + 3 || isWhiteSpace((char) content[lineStart + 3]);
+    }
+
+    private static boolean isBlankOrComment(byte[] content, int start, int end) {
+        for (int i = start; i < end; i++) {
+            char c = (char) content[i];
+            if (c == '#') {
+                return true;
+            }
+            if (!isWhiteSpace(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int indexOfNewLine(byte[] content, int from) {
+        for (int i = from; i < content.length; i++) {
+            if (content[i] == '\n') {
+                return i;
+            }
+        }
+        return content.length;
+    }
+
+    private static boolean startsWithByteOrderMark(byte[] content) {
+        return content.length >= UTF8_BOM_LENGTH && content[0] == (byte) 0xEF && content[1] == (byte) 0xBB
+                && content[2] == (byte) 0xBF;
+    }
+
+    private static boolean isBlankDocument(String document) {
+        int length = document.length();
+        int lineStart = 0;
+        while (lineStart < length) {
+            int lineEnd = document.indexOf('\n', lineStart);
+            if (lineEnd == -1) {
+                lineEnd = length;
+            }
+            if (!isBlankOrComment(document, lineStart, lineEnd)) {
+                return false;
+            }
+            lineStart = lineEnd + 1;
+        }
+        return true;
+    }
+
+    private static boolean isBlankOrComment(String content, int start, int end) {
+        for (int i = start; i < end; i++) {
+            char c = content.charAt(i);
+            if (c == '#') {
+                return true;
+            }
+            if (!isWhiteSpace(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isWhiteSpace(char c) {
+        return c == ' ' || c == '\t' || c == '\r';
+    }
+
+    /**
+     * Represents the range [startOffset, endOffset) of a document in a YAML stream, along with the 1-based numbers
+     * of its first and last lines.
+     *
+     * @param startOffset offset of the first byte of the document
+     * @param endOffset offset after the last byte of the document
+     * @param startLine line number of the first byte of the document
+     * @param endLine line number of the last byte of the document
+     */
+    public record Boundary(int startOffset, int endOffset, int startLine, int endLine) {
+    }
+}
@@ -0,0 +1,354 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.data.yaml.parser;
+
+import io.ballerina.lib.data.yaml.utils.DataUtils;
+import io.ballerina.lib.data.yaml.utils.DiagnosticLog;
+import io.ballerina.lib.data.yaml.utils.JsonTraverse;
+import io.ballerina.lib.data.yaml.utils.OptionsUtils;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.IntersectionType;
+import io.ballerina.runtime.api.types.MapType;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.TypeTags;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTypedesc;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.ballerina.lib.data.yaml.utils.Constants.ENABLE_CONSTRAINT_VALIDATION;
+
+/**
+ * Parses a YAML document which is edited over time, by re-parsing only the top-level entries affected by an edit.
+ * <p>
+ * A document which is a block mapping is split into blocks, each starting at a line with a top-level key and
+ * spanning the indented lines, comments and blank lines which follow it. Each block is composed on its own and the
+ * blocks not touched by an edit keep their values. The blocks are composed as anydata, hence they are combined only
+ * for json and anydata targets, and mappings of them. Other targets are composed from the whole content, so that
+ * the scalars are resolved with the types of the target the same as a complete parse. Documents with anchors,
+ * aliases, tags, directives, document markers or a top-level collection other than a block mapping are re-parsed
+ * as a whole on every edit.
+ *
+ * @since 0.1.0
+ */
+public class IncrementalParser {
+
+    private static final String NATIVE_PARSER = "nativeIncrementalParser";
+
+    private final BMap<BString, Object> options;
+    private final OptionsUtils.ReadConfig readConfig;
+    private String content;
+    // Blocks covering the whole content in order, or null if the content cannot be parsed incrementally
+    private List<Block> blocks;
+
+    private IncrementalParser(String content, BMap<BString, Object> options) {
+        this.options = options;
+        this.readConfig = OptionsUtils.resolveReadConfig(options);
+        this.content = content;
+        this.blocks = parseBlocks(content, 0, content.length());
+    }
+
+    public static void initParser(BObject parser, BString content, BMap<BString, Object> options) {
+        parser.addNativeData(NATIVE_PARSER, new IncrementalParser(content.getValue(), options));
+    }
+
+    public static Object edit(BObject parser, long startOffset, long endOffset, BString text) {
+        return getParser(parser).applyEdit(startOffset, endOffset, text.getValue());
+    }
+
+    public static Object getValue(BObject parser, BTypedesc typed) {
+        return getParser(parser).composeContent(typed);
+    }
+
+    public static BString getContent(BObject parser) {
+        return StringUtils.fromString(getParser(parser).currentContent());
+    }
+
+    private static IncrementalParser getParser(BObject parser) {
+        return (IncrementalParser) parser.getNativeData(NATIVE_PARSER);
+    }
+
+    /**
+     * Replaces the characters in the range [startOffset, endOffset) of the content with the given text.
+     * The offsets are in code points, the same as the indexes of a Ballerina string.
+     */
+    private synchronized Object applyEdit(long startOffset, long endOffset, String text) {
+        int length = content.codePointCount(0, content.length());
+        if (startOffset < 0 || startOffset > endOffset || endOffset > length) {
+            return DiagnosticLog.getYamlError("invalid edit range: [" + startOffset + ", " + endOffset
+                    + ") for a document of length " + length);
+        }
+        int start = content.offsetByCodePoints(0, (int) startOffset);
+        int end = content.offsetByCodePoints(start, (int) (endOffset - startOffset));
+        String newContent = content.substring(0, start) + text + content.substring(end);
+        List<Block> previousBlocks = blocks;
+        content = newContent;
+        if (previousBlocks == null || previousBlocks.isEmpty()) {
+            blocks = parseBlocks(newContent, 0, newContent.length());
+            return null;
+        }
+
+        // An edit at the start of a block may extend the previous block with indented lines
+        int first = indexOfBlock(previousBlocks, start);
+        if (first > 0 && previousBlocks.get(first).start == start) {
+            first--;
+        }
+        int last = indexOfBlock(previousBlocks, end);
+        int delta = text.length() - (end - start);
+        int regionStart = previousBlocks.get(first).start;
+        int regionEnd = previousBlocks.get(last).end + delta;
+        // The edited region has to start with a top-level key, else it continues the previous block
+        while (first > 0 && !isBlockStart(newContent, regionStart)) {
+            first--;
+            regionStart = previousBlocks.get(first).start;
+        }
+
+        List<Block> regionBlocks = parseBlocks(newContent, regionStart, regionEnd);
+        if (regionBlocks == null) {
+            blocks = parseBlocks(newContent, 0, newContent.length());
+            return null;
+        }
+        List<Block> newBlocks = new ArrayList<>(previousBlocks.size() + regionBlocks.size());
+        newBlocks.addAll(previousBlocks.subList(0, first));
+        newBlocks.addAll(regionBlocks);
+        for (Block block : previousBlocks.subList(last + 1, previousBlocks.size())) {
+            newBlocks.add(new Block(block.start + delta, block.end + delta, block.value));
+        }
+        blocks = newBlocks;
+        return null;
+    }
+
+    private synchronized Object composeContent(BTypedesc typed) {
+        Type expectedType = typed.getDescribingType();
+        BMap<BString, Object> document = blocks == null || !isAnydataMappingType(expectedType) ? null :
+                combineBlocks(blocks, TypeUtils.getReferredType(expectedType).getTag() != TypeTags.INTERSECTION_TAG);
+        try {
+            if (document == null) {
+                return YamlParser.compose(new StringReader(content), options, typed);
+            }
+            Object value = JsonTraverse.traverse(document, options, expectedType, readConfig.schema());
+            return DataUtils.validateConstraints(value, typed, (Boolean) options.get(ENABLE_CONSTRAINT_VALIDATION));
+        } catch (BError e) {
+            return e;
+        }
+    }
+
+    private synchronized String currentContent() {
+        return content;
+    }
+
+    private static boolean isAnydataMappingType(Type type) {
+        Type referredType = TypeUtils.getReferredType(type);
+        return switch (referredType.getTag()) {
+            case TypeTags.JSON_TAG, TypeTags.ANYDATA_TAG -> true;
+            case TypeTags.MAP_TAG -> {
+                int constraintTag = TypeUtils.getReferredType(((MapType) referredType).getConstrainedType()).getTag();
+                yield constraintTag == TypeTags.JSON_TAG || constraintTag == TypeTags.ANYDATA_TAG;
+            }
+            case TypeTags.INTERSECTION_TAG -> Values.getMutableType((IntersectionType) referredType)
+                    .map(IncrementalParser::isAnydataMappingType).orElse(false);
+            default -> false;
+        };
+    }
+
+    /**
+     * Combines the mappings of the blocks, or returns null if the document has to be parsed as a whole, so that
+     * empty documents and the redefinitions of the keys are handled the same as a complete parse. The values of
+     * the blocks are readonly, hence they are copied only for a mutable target.
+     */
+    private static BMap<BString, Object> combineBlocks(List<Block> blocks, boolean copyValues) {
+        BMap<BString, Object> document = ValueCreator.createMapValue(Values.ANYDATA_MAP_TYPE);
+        for (Block block : blocks) {
+            if (block.value == null) {
+                continue;
+            }
+            for (BString key : block.value.getKeys()) {
+                if (document.containsKey(key)) {
+                    return null;
+                }
+                Object value = block.value.get(key);
+                document.put(key, copyValues ? copyValue(value) : value);
+            }
+        }
+        return document.isEmpty() ? null : document;
+    }
+
+    /**
+     * Copies a readonly value of a block to a mutable anydata value.
+     */
+    private static Object copyValue(Object value) {
+        if (value instanceof BMap<?, ?> mapping) {
+            BMap<BString, Object> copy = ValueCreator.createMapValue(Values.ANYDATA_MAP_TYPE);
+            for (BString key : ((BMap<BString, Object>) mapping).getKeys()) {
+                copy.put(key, copyValue(mapping.get(key)));
+            }
+            return copy;
+        }
+        if (value instanceof BArray array) {
+            BArray copy = ValueCreator.createArrayValue(PredefinedTypes.TYPE_ANYDATA_ARRAY);
+            for (int i = 0; i < array.size(); i++) {
+                copy.append(copyValue(array.get(i)));
+            }
+            return copy;
+        }
+        return value;
+    }
+
+    /**
+     * Splits the content in the range [from, to) into blocks and composes each block.
+     *
+     * @return composed blocks, or null if the range cannot be parsed incrementally
+     */
+    private List<Block> parseBlocks(String content, int from, int to) {
+        List<Integer> blockStarts = new ArrayList<>();
+        int lineStart = from;
+        while (lineStart < to) {
+            int lineEnd = content.indexOf('\n', lineStart);
+            if (lineEnd == -1 || lineEnd > to) {
+                lineEnd = to;
+            }
+            if (hasNodeProperty(content, lineStart, lineEnd)) {
+                return null;
+            }
+            if (isBlockStart(content, lineStart)) {
+                if (!isSupportedKeyStart(content.charAt(lineStart))) {
+                    return null;
+                }
+                blockStarts.add(lineStart);
+            }
+            lineStart = lineEnd + 1;
+        }
+        if (blockStarts.isEmpty() || blockStarts.get(0) != from) {
+            // Comments and blank lines before the first key are part of the first block
+            blockStarts.add(0, from);
+        }
+
+        List<Block> parsedBlocks = new ArrayList<>(blockStarts.size());
+        for (int i = 0; i < blockStarts.size(); i++) {
+            int start = blockStarts.get(i);
+            int end = i + 1 < blockStarts.size() ? blockStarts.get(i + 1) : to;
+            Object value = YamlParser.composeValue(new StringReader(content.substring(start, end)), readConfig,
+                    PredefinedTypes.TYPE_ANYDATA, null);
+            if (value != null && !(value instanceof BMap<?, ?>)) {
+                return null;
+            }
+            parsedBlocks.add(new Block(start, end, (BMap<BString, Object>) Values.constructReadOnlyValue(value)));
+        }
+        return parsedBlocks;
+    }
+
+    /**
+     * Checks whether the line has an anchor, an alias or a tag, i.e. a '&', '*' or '!' at the start of a node
+     * outside the quoted scalars and the comments. These characters within a plain scalar, such as "Hello!", are
+     * not node properties. A line of a multi-line quoted scalar may be reported as having a node property, which
+     * only causes a complete parse.
+     */
+    private static boolean hasNodeProperty(String content, int lineStart, int lineEnd) {
+        // The last character other than a white space, or a new line at the start of the line
+        char previous = '\n';
+        for (int i = lineStart; i < lineEnd; i++) {
+            char c = content.charAt(i);
+            if (c == ' ' || c == '\t') {
+                continue;
+            }
+            if (c == '#' && (i == lineStart || content.charAt(i - 1) == ' ' || content.charAt(i - 1) == '\t')) {
+                return false;
+            }
+            if (isNodeStart(previous)) {
+                if (c == '&' || c == '*' || c == '!') {
+                    return true;
+                }
+                if (c == '"' || c == '\'') {
+                    i = indexOfClosingQuote(content, i, lineEnd);
+                }
+            }
+            previous = c;
+        }
+        return false;
+    }
+
+    private static boolean isNodeStart(char previous) {
+        return switch (previous) {
+            case '\n', '-', '?', ':', '[', '{', ',' -> true;
+            default -> false;
+        };
+    }
+
+    private static int indexOfClosingQuote(String content, int quoteIndex, int lineEnd) {
+        char quote = content.charAt(quoteIndex);
+        for (int i = quoteIndex + 1; i < lineEnd; i++) {
+            char c = content.charAt(i);
+            if (c == '\\' && quote == '"') {
+                i++;
+            } else if (c == quote) {
+                if (quote == '\'' && i + 1 < lineEnd && content.charAt(i + 1) == '\'') {
+                    i++;
+                } else {
+                    return i;
+                }
+            }
+        }
+        return lineEnd;
+    }
+
+    private static boolean isBlockStart(String content, int lineStart) {
+        if (lineStart >= content.length()) {
+            return false;
+        }
+        char c = content.charAt(lineStart);
+        return c != ' ' && c != '\t' && c != '\r' && c != '\n' && c != '#';
+    }
+
+    private static boolean isSupportedKeyStart(char c) {
+        // Sequences, flow collections, complex keys, directives and document markers
+        return switch (c) {
+            case '-', '?', ':', '[', ']', '{', '}', ',', '%', '.', '|', '>', '﻿' -> false;
+            default -> true;
+        };
+    }
+
+    private static int indexOfBlock(List<Block> blocks, int offset) {
+        int low = 0;
+        int high = blocks.size() - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (blocks.get(mid).start <= offset) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Represents the range [start, end) of the content with a top-level key and its composed mapping.
+     */
+    private record Block(int start, int end, BMap<BString, Object> value) {
+    }
+}
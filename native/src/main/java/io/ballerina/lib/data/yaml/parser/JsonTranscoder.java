@@ -0,0 +1,377 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.data.yaml.parser;
+
+import io.ballerina.lib.data.yaml.common.Types;
+import io.ballerina.lib.data.yaml.common.YamlEvent;
+import io.ballerina.lib.data.yaml.utils.Error;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static io.ballerina.lib.data.yaml.common.Types.Collection.SEQUENCE;
+import static io.ballerina.lib.data.yaml.common.Types.DocumentType.ANY_DOCUMENT;
+import static io.ballerina.lib.data.yaml.common.Types.DocumentType.BARE_DOCUMENT;
+import static io.ballerina.lib.data.yaml.parser.ParserUtils.ParserOption.EXPECT_MAP_KEY;
+import static io.ballerina.lib.data.yaml.parser.ParserUtils.ParserOption.EXPECT_MAP_VALUE;
+import static io.ballerina.lib.data.yaml.parser.ParserUtils.ParserOption.EXPECT_SEQUENCE_ENTRY;
+import static io.ballerina.lib.data.yaml.parser.ParserUtils.ParserOption.EXPECT_SEQUENCE_VALUE;
+import static io.ballerina.lib.data.yaml.utils.Constants.DEFAULT_GLOBAL_TAG_HANDLE;
+
+/**
+ * Writes the events of a YAML stream as JSON text, without composing the intermediate anydata value. Scalars are
+ * resolved with the given schema the same way as for a `json` target, aliases are expanded, and the entries of
+ * the mappings referred by a merge key (`<<`) are written unless the mapping defines them explicitly.
+ * A stream of more than one document is written as a JSON array of the documents.
+ *
+ * @since 0.1.0
+ */
+class JsonTranscoder {
+
+    private final YamlParser.ComposerState state;
+    private final StringBuilder output = new StringBuilder();
+    // JSON text of the anchored nodes, along with the entries of the anchored mappings to be merged
+    private final Map<String, AnchoredNode> anchors = new HashMap<>();
+
+    JsonTranscoder(YamlParser.ComposerState state) {
+        this.state = state;
+    }
+
+    String transcode() throws Error.YamlParserException {
+        YamlEvent event = YamlParser.handleEvent(state, ANY_DOCUMENT);
+        int documents = 0;
+        while (!ParserUtils.isStreamEndEvent(event)) {
+            if (documents == 1) {
+                output.insert(0, '[');
+            }
+            if (documents > 0) {
+                output.append(',');
+            }
+            writeDocument(event);
+            documents++;
+            event = nextDocumentEvent();
+        }
+
+        if (documents == 0) {
+            output.append("null");
+        } else if (documents > 1) {
+            output.append(']');
+        }
+        return output.toString();
+    }
+
+    private void writeDocument(YamlEvent event) throws Error.YamlParserException {
+        // Ignore the start document marker for explicit documents
+        if (event.getKind() == YamlEvent.EventKind.DOCUMENT_MARKER_EVENT &&
+                ((YamlEvent.DocumentMarkerEvent) event).isExplicit()) {
+            event = YamlParser.handleEvent(state, ANY_DOCUMENT);
+        }
+
+        writeNode(event, false);
+
+        event = YamlParser.handleEvent(state, BARE_DOCUMENT);
+        if (ParserUtils.isStreamEndEvent(event)) {
+            return;
+        }
+        if (event.getKind() == YamlEvent.EventKind.DOCUMENT_MARKER_EVENT) {
+            state.terminatedDocEvent = event;
+            return;
+        }
+        throw new Error.YamlParserException("there can only be one root event to a document", state.getLine(),
+                state.getColumn());
+    }
+
+    private YamlEvent nextDocumentEvent() throws Error.YamlParserException {
+        YamlEvent terminatedDocEvent = state.terminatedDocEvent;
+        if (terminatedDocEvent == null) {
+            return YamlParser.handleEvent(state, ANY_DOCUMENT);
+        }
+        state.terminatedDocEvent = null;
+        // Explicit document markers start the next document, while the trailing document end markers are ignored
+        if (((YamlEvent.DocumentMarkerEvent) terminatedDocEvent).isExplicit()) {
+            return terminatedDocEvent;
+        }
+        YamlEvent event = YamlParser.handleEvent(state, ANY_DOCUMENT);
+        while (event.getKind() == YamlEvent.EventKind.DOCUMENT_MARKER_EVENT
+                && !((YamlEvent.DocumentMarkerEvent) event).isExplicit()) {
+            event = YamlParser.handleEvent(state, ANY_DOCUMENT);
+        }
+        return event;
+    }
+
+    /**
+     * Writes the node starting with the given event.
+     *
+     * @param event first event of the node
+     * @param recordEntries if set, the entries of a mapping node are returned
+     * @return entries of the mapping node if requested or anchored, else null
+     */
+    private Map<String, String> writeNode(YamlEvent event, boolean recordEntries) throws Error.YamlParserException {
+        switch (event.getKind()) {
+            case ALIAS_EVENT -> {
+                AnchoredNode anchoredNode = anchors.get(((YamlEvent.AliasEvent) event).getAlias());
+                if (anchoredNode == null) {
+                    throw new Error.YamlParserException("anchor does not exist", state.getLine(), state.getColumn());
+                }
+                output.append(anchoredNode.json);
+                return anchoredNode.entries;
+            }
+            case END_EVENT -> {
+                output.append("null");
+                return null;
+            }
+            case DOCUMENT_MARKER_EVENT -> {
+                state.terminatedDocEvent = event;
+                output.append("null");
+                return null;
+            }
+            default -> {
+            }
+        }
+
+        int start = output.length();
+        Map<String, String> entries = null;
+        if (event.getKind() == YamlEvent.EventKind.START_EVENT) {
+            YamlEvent.StartEvent startEvent = (YamlEvent.StartEvent) event;
+            boolean sequence = startEvent.getStartType() == SEQUENCE;
+            checkCollectionTag(event.getTag(), sequence ? "seq" : "map");
+            if (sequence) {
+                writeSequence(startEvent.isFlowStyle());
+            } else {
+                entries = recordEntries || event.getAnchor() != null ? new LinkedHashMap<>() : null;
+                writeMapping(startEvent.isFlowStyle(), startEvent.isImplicit(), entries);
+            }
+        } else {
+            writeScalar((YamlEvent.ScalarEvent) event);
+        }
+
+        String anchor = event.getAnchor();
+        if (anchor != null) {
+            if (anchors.containsKey(anchor) && !state.allowAnchorRedefinition) {
+                throw new Error.YamlParserException("duplicate anchor definition", state.getLine(), state.getColumn());
+            }
+            anchors.put(anchor, new AnchoredNode(output.substring(start), entries));
+        }
+        return entries;
+    }
+
+    private void writeScalar(YamlEvent.ScalarEvent event) throws Error.YamlParserException {
+        String tag = event.getTag();
+        Object value = YamlParser.castData(state, event.getValue(), Types.FailSafeSchema.STRING, tag);
+        if (value instanceof String stringValue) {
+            // Untagged scalars are resolved by the schema, while the quoted scalars are tagged as strings
+            BString bStringValue = StringUtils.fromString(stringValue);
+            value = tag == null ? Values.fromStringWithType(bStringValue, PredefinedTypes.TYPE_JSON, state.schema)
+                    : bStringValue;
+        }
+        output.append(StringUtils.getJsonString(value));
+    }
+
+    private void writeSequence(boolean flowStyle) throws Error.YamlParserException {
+        output.append('[');
+        boolean firstElement = true;
+        YamlEvent event = YamlParser.handleEvent(state, EXPECT_SEQUENCE_VALUE);
+        while (!isSequenceEnd(event, flowStyle)) {
+            if (!firstElement) {
+                output.append(',');
+            }
+            firstElement = false;
+            writeNode(event, false);
+            event = YamlParser.handleEvent(state, EXPECT_SEQUENCE_ENTRY);
+        }
+        output.append(']');
+    }
+
+    private void writeMapping(boolean flowStyle, boolean implicitMapping, Map<String, String> entries)
+            throws Error.YamlParserException {
+        output.append('{');
+        state.mappingKeys.startMapping();
+        List<Map<String, String>> mergedMappings = null;
+        YamlEvent event = YamlParser.handleEvent(state, EXPECT_MAP_KEY);
+        while (!isMappingEnd(event, flowStyle)) {
+            // Cannot have a nested block mapping if a value is assigned
+            if (event.getKind() == YamlEvent.EventKind.START_EVENT
+                    && !((YamlEvent.StartEvent) event).isFlowStyle()) {
+                throw new Error.YamlParserException(
+                        "cannot have nested mapping under a key-pair that is already assigned",
+                        state.getLine(), state.getColumn());
+            }
+            boolean mergeKey = ParserUtils.isMergeKey(event);
+            String key = mergeKey ? ParserUtils.MERGE_KEY : composeKey(event);
+            if (!mergeKey && !state.mappingKeys.add(key) && !state.allowMapEntryRedefinition) {
+                throw new Error.YamlParserException("cannot have duplicate map entries for '" + key + "'",
+                        state.getLine(), state.getColumn());
+            }
+
+            event = YamlParser.handleEvent(state, EXPECT_MAP_VALUE);
+            if (isMappingEnd(event, flowStyle)) {
+                break;
+            }
+            if (mergeKey) {
+                if (mergedMappings == null) {
+                    mergedMappings = new ArrayList<>();
+                }
+                addMergedMappings(event, mergedMappings);
+            } else {
+                writeEntry(key, event, entries);
+            }
+
+            // Terminate after single key-value pair if implicit mapping flag is set.
+            if (implicitMapping) {
+                break;
+            }
+            event = YamlParser.handleEvent(state, EXPECT_MAP_KEY);
+        }
+
+        // The explicit entries and the entries of the preceding merged mappings take precedence
+        if (mergedMappings != null) {
+            for (Map<String, String> mergedMapping : mergedMappings) {
+                for (Map.Entry<String, String> entry : mergedMapping.entrySet()) {
+                    if (state.mappingKeys.add(entry.getKey())) {
+                        writeEntry(entry.getKey(), entry.getValue(), entries);
+                    }
+                }
+            }
+        }
+        state.mappingKeys.endMapping();
+        output.append('}');
+    }
+
+    private void writeEntry(String key, YamlEvent valueEvent, Map<String, String> entries)
+            throws Error.YamlParserException {
+        writeKey(key);
+        int valueStart = output.length();
+        writeNode(valueEvent, false);
+        if (entries != null) {
+            entries.put(key, output.substring(valueStart));
+        }
+    }
+
+    private void writeEntry(String key, String value, Map<String, String> entries) {
+        writeKey(key);
+        output.append(value);
+        if (entries != null) {
+            entries.put(key, value);
+        }
+    }
+
+    private void writeKey(String key) {
+        // A written value never ends with an opening brace, hence it only precedes the first entry
+        if (output.charAt(output.length() - 1) != '{') {
+            output.append(',');
+        }
+        output.append(StringUtils.getJsonString(StringUtils.fromString(key))).append(':');
+    }
+
+    /**
+     * Collects the entries of the mappings referred by a merge key, which is either a mapping or a sequence of
+     * mappings. The nodes are written only to collect their entries, hence the output is reverted afterwards.
+     */
+    private void addMergedMappings(YamlEvent event, List<Map<String, String>> mergedMappings)
+            throws Error.YamlParserException {
+        int start = output.length();
+        if (event.getKind() == YamlEvent.EventKind.START_EVENT
+                && ((YamlEvent.StartEvent) event).getStartType() == SEQUENCE) {
+            boolean flowStyle = ((YamlEvent.StartEvent) event).isFlowStyle();
+            YamlEvent memberEvent = YamlParser.handleEvent(state, EXPECT_SEQUENCE_VALUE);
+            while (!isSequenceEnd(memberEvent, flowStyle)) {
+                mergedMappings.add(writeMergedMapping(memberEvent));
+                memberEvent = YamlParser.handleEvent(state, EXPECT_SEQUENCE_ENTRY);
+            }
+        } else {
+            mergedMappings.add(writeMergedMapping(event));
+        }
+        output.setLength(start);
+    }
+
+    private Map<String, String> writeMergedMapping(YamlEvent event) throws Error.YamlParserException {
+        Map<String, String> entries = writeNode(event, true);
+        if (entries == null) {
+            throw new Error.YamlParserException("merge key value must be a mapping or a sequence of mappings",
+                    state.getLine(), state.getColumn());
+        }
+        return entries;
+    }
+
+    private String composeKey(YamlEvent event) throws Error.YamlParserException {
+        if (event.getKind() != YamlEvent.EventKind.SCALAR_EVENT) {
+            throw new Error.YamlParserException("only scalar mapping keys are supported", state.getLine(),
+                    state.getColumn());
+        }
+        Object key = YamlParser.castData(state, ((YamlEvent.ScalarEvent) event).getValue(),
+                Types.FailSafeSchema.STRING, event.getTag());
+        return String.valueOf(key);
+    }
+
+    private boolean isSequenceEnd(YamlEvent event, boolean flowStyle) throws Error.YamlParserException {
+        if (event.getKind() == YamlEvent.EventKind.DOCUMENT_MARKER_EVENT) {
+            state.terminatedDocEvent = event;
+            return endOfBlockCollection(flowStyle);
+        }
+        if (event.getKind() != YamlEvent.EventKind.END_EVENT) {
+            return false;
+        }
+        return switch (((YamlEvent.EndEvent) event).getEndType()) {
+            case SEQUENCE -> true;
+            case STREAM -> endOfBlockCollection(flowStyle);
+            default -> throw new Error.YamlParserException("unexpected event", state.getLine(), state.getColumn());
+        };
+    }
+
+    private boolean isMappingEnd(YamlEvent event, boolean flowStyle) throws Error.YamlParserException {
+        if (event.getKind() == YamlEvent.EventKind.DOCUMENT_MARKER_EVENT) {
+            state.terminatedDocEvent = event;
+            return endOfBlockCollection(flowStyle);
+        }
+        if (event.getKind() != YamlEvent.EventKind.END_EVENT) {
+            return false;
+        }
+        return switch (((YamlEvent.EndEvent) event).getEndType()) {
+            case MAPPING -> true;
+            case SEQUENCE -> throw new Error.YamlParserException("unexpected event", state.getLine(),
+                    state.getColumn());
+            default -> endOfBlockCollection(flowStyle);
+        };
+    }
+
+    private boolean endOfBlockCollection(boolean flowStyle) throws Error.YamlParserException {
+        if (!flowStyle) {
+            return true;
+        }
+        throw new Error.YamlParserException("unexpected event", state.getLine(), state.getColumn());
+    }
+
+    private void checkCollectionTag(String tag, String expectedTag) throws Error.YamlParserException {
+        if (tag != null && !tag.equals(DEFAULT_GLOBAL_TAG_HANDLE + expectedTag)) {
+            throw new Error.YamlParserException("tag schema not supported", state.getLine(), state.getColumn());
+        }
+    }
+
+    /**
+     * Represents the JSON text of an anchored node, and its entries if the node is a mapping.
+     */
+    private record AnchoredNode(String json, Map<String, String> entries) {
+    }
+}
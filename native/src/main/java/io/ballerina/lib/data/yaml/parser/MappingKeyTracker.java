@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.data.yaml.parser;
+
+import io.ballerina.lib.data.yaml.common.ArrayStack;
+import io.ballerina.lib.data.yaml.common.IntStack;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Detects duplicate keys of the mappings being composed. The keys of all the nested mappings share a single
+ * array, where each mapping owns the segment starting at its first key. Small mappings are checked with a
+ * linear scan of their segment, and a hash set is only created once a mapping exceeds the scan limit.
+ *
+ * @since 0.1.0
+ */
+class MappingKeyTracker {
+
+    private static final int LINEAR_SCAN_LIMIT = 8;
+    private static final int DEFAULT_CAPACITY = 32;
+
+    private String[] keys = new String[DEFAULT_CAPACITY];
+    private int size = 0;
+    private final IntStack mappingStarts = new IntStack();
+    private final ArrayStack<Set<String>> largeMappingKeys = new ArrayStack<>();
+
+    void startMapping() {
+        mappingStarts.push(size);
+        largeMappingKeys.push(null);
+    }
+
+    /**
+     * Adds the given key to the mapping being composed.
+     *
+     * @param key mapping key
+     * @return false if the mapping already has the key
+     */
+    boolean add(String key) {
+        Set<String> keySet = largeMappingKeys.peek();
+        if (keySet != null) {
+            return keySet.add(key);
+        }
+
+        int start = mappingStarts.peek();
+        for (int i = start; i < size; i++) {
+            if (Objects.equals(keys[i], key)) {
+                return false;
+            }
+        }
+        if (size - start < LINEAR_SCAN_LIMIT) {
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, size << 1);
+            }
+            keys[size++] = key;
+            return true;
+        }
+
+        // The segment is kept, so that the keys of the enclosing mappings stay in place
+        keySet = new HashSet<>(Arrays.asList(keys).subList(start, size));
+        keySet.add(key);
+        largeMappingKeys.pop();
+        largeMappingKeys.push(keySet);
+        return true;
+    }
+
+    void endMapping() {
+        largeMappingKeys.pop();
+        int start = mappingStarts.pop();
+        Arrays.fill(keys, start, size, null);
+        size = start;
+    }
+
+    void clear() {
+        Arrays.fill(keys, 0, size, null);
+        size = 0;
+        mappingStarts.clear();
+        largeMappingKeys.clear();
+    }
+}
@@ -23,6 +23,7 @@ import io.ballerina.lib.data.yaml.common.YamlEvent;
 import io.ballerina.lib.data.yaml.lexer.CharacterReader;
 import io.ballerina.lib.data.yaml.lexer.LexerState;
 import io.ballerina.lib.data.yaml.lexer.Token;
+import io.ballerina.lib.data.yaml.metrics.ParseMetrics;
 import io.ballerina.lib.data.yaml.utils.Error;
 
 import java.io.Reader;
@@ -55,9 +56,52 @@ public class ParserState {
     private int lastKeyLine = -1;
     private boolean emptyKey = false;
     private final List<String> reservedDirectives = new ArrayList<>();
+    private ParseMetrics metrics = null;
 
     public ParserState(Reader reader) {
         this.lexerState = new LexerState(new CharacterReader(reader));
+        initialize();
+    }
+
+    /**
+     * Resets the parser to parse the given input, reusing the lexer state and the collections.
+     *
+     * @param reader input to be parsed
+     */
+    public void reset(Reader reader) {
+        lexerState.reset(reader);
+        currentToken = DUMMY_TOKEN;
+        bufferedToken = DUMMY_TOKEN;
+        eventBuffer.clear();
+        lineIndex = -1;
+        explicitDoc = false;
+        yamlVersion = null;
+        customTagHandles.clear();
+        explicitKey = false;
+        lastExplicitKeyLine = -1;
+        expectBlockSequenceValue = false;
+        tagPropertiesInLine = false;
+        indentationProcessed = false;
+        lastKeyLine = -1;
+        emptyKey = false;
+        reservedDirectives.clear();
+        metrics = null;
+        initialize();
+    }
+
+    /**
+     * Releases the references to the input and to the parsed events, so that a pooled parser state does not
+     * retain them until it is reused.
+     */
+    public void release() {
+        lexerState.reset(null);
+        currentToken = DUMMY_TOKEN;
+        bufferedToken = DUMMY_TOKEN;
+        eventBuffer.clear();
+        metrics = null;
+    }
+
+    private void initialize() {
         try {
             initLexer();
         } catch (Exception e) {
@@ -181,6 +225,14 @@ public class ParserState {
         return reservedDirectives;
     }
 
+    public ParseMetrics getMetrics() {
+        return metrics;
+    }
+
+    public void setMetrics(ParseMetrics metrics) {
+        this.metrics = metrics;
+    }
+
     public int getLine() {
         return lexerState.getLine();
     }
@@ -25,7 +25,9 @@ import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
 
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Map;
 
 import static io.ballerina.lib.data.yaml.common.Types.Collection.STREAM;
@@ -41,10 +43,41 @@ public class ParserUtils {
     public static final String FIELD_REGEX = "\\$field\\$\\.";
     public static final String NAME = "Name";
     public static final BString VALUE = StringUtils.fromString("value");
+    static final String MERGE_KEY = "<<";
+
+    // Record types are resolved once per type, as the annotations of a type do not change at runtime. The map is
+    // copied on a write, so that the resolved types are looked up without a lock.
+    private static volatile Map<RecordType, Map<String, Field>> resolvedRecordFields = new IdentityHashMap<>();
+    private static final Object RECORD_FIELDS_LOCK = new Object();
 
     private ParserUtils() {
     }
+
+    /**
+     * Returns the fields of the given record type keyed by their names in YAML, i.e. after applying the
+     * `@yaml:Name` annotations. The returned map is shared by all the parses, hence it cannot be modified.
+     *
+     * @param recordType record type
+     * @return fields of the record type
+     */
     public static Map<String, Field> getAllFieldsInRecord(RecordType recordType) {
+        Map<String, Field> fields = resolvedRecordFields.get(recordType);
+        if (fields != null) {
+            return fields;
+        }
+        synchronized (RECORD_FIELDS_LOCK) {
+            fields = resolvedRecordFields.get(recordType);
+            if (fields == null) {
+                fields = resolveFieldsInRecord(recordType);
+                Map<RecordType, Map<String, Field>> updatedRecordFields = new IdentityHashMap<>(resolvedRecordFields);
+                updatedRecordFields.put(recordType, fields);
+                resolvedRecordFields = updatedRecordFields;
+            }
+            return fields;
+        }
+    }
+
+    private static Map<String, Field> resolveFieldsInRecord(RecordType recordType) {
         BMap<BString, Object> annotations = recordType.getAnnotations();
         Map<String, String> modifiedNames = new HashMap<>();
         for (BString annotationKey : annotations.getKeys()) {
@@ -63,7 +96,7 @@ public class ParserUtils {
             String fieldName = modifiedNames.getOrDefault(key, key);
             fields.put(fieldName, recordFields.get(key));
         }
-        return fields;
+        return Collections.unmodifiableMap(fields);
     }
 
     public static String getModifiedName(Map<BString, Object> fieldAnnotation, String fieldName) {
@@ -79,6 +112,12 @@ public class ParserUtils {
         return event.getKind() == YamlEvent.EventKind.END_EVENT && ((YamlEvent.EndEvent) event).getEndType() == STREAM;
     }
 
+    static boolean isMergeKey(YamlEvent event) {
+        // A quoted or tagged key is an ordinary key
+        return event.getKind() == YamlEvent.EventKind.SCALAR_EVENT && event.getTag() == null
+                && MERGE_KEY.equals(((YamlEvent.ScalarEvent) event).getValue());
+    }
+
     public enum ParserOption {
         DEFAULT,
         EXPECT_MAP_KEY,
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.data.yaml.parser;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.TypeTags;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BArray;
+
+import java.util.Arrays;
+
+/**
+ * Composes the members of an open `int[]`, `float[]`, `decimal[]`, `byte[]` or `boolean[]` sequence by parsing
+ * the plain scalars straight into primitives. The primitives are collected in primitive storage and the array
+ * value is created once the sequence is completed with the exact number of members.
+ *
+ * @since 0.1.0
+ */
+class PrimitiveArrayBuilder {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final BArray array;
+    private final int elementTypeTag;
+    private long[] intValues;
+    private double[] floatValues;
+    private byte[] byteValues;
+    private boolean[] booleanValues;
+    private int size = 0;
+
+    private PrimitiveArrayBuilder(BArray array, int elementTypeTag) {
+        this.array = array;
+        this.elementTypeTag = elementTypeTag;
+        switch (elementTypeTag) {
+            case TypeTags.INT_TAG -> intValues = new long[INITIAL_CAPACITY];
+            case TypeTags.FLOAT_TAG -> floatValues = new double[INITIAL_CAPACITY];
+            case TypeTags.BYTE_TAG -> byteValues = new byte[INITIAL_CAPACITY];
+            case TypeTags.BOOLEAN_TAG -> booleanValues = new boolean[INITIAL_CAPACITY];
+            default -> {
+                // Decimals are objects, hence they are added to the array value as they are parsed
+            }
+        }
+    }
+
+    /**
+     * Returns a builder for the given array value if it is an empty open array of a primitive element type.
+     *
+     * @param value array value created for the sequence
+     * @return builder, or null if the array cannot be built in primitive storage
+     */
+    static PrimitiveArrayBuilder forArray(Object value) {
+        if (!(value instanceof BArray arrayValue) || arrayValue.size() != 0) {
+            return null;
+        }
+        Type type = TypeUtils.getType(arrayValue);
+        if (type.getTag() != TypeTags.ARRAY_TAG || ((ArrayType) type).getState() != ArrayType.ArrayState.OPEN) {
+            return null;
+        }
+        // Arrays of type references are not built in primitive storage, as that would change the element type
+        int elementTypeTag = ((ArrayType) type).getElementType().getTag();
+        return switch (elementTypeTag) {
+            case TypeTags.INT_TAG, TypeTags.FLOAT_TAG, TypeTags.DECIMAL_TAG, TypeTags.BYTE_TAG,
+                 TypeTags.BOOLEAN_TAG -> new PrimitiveArrayBuilder(arrayValue, elementTypeTag);
+            default -> null;
+        };
+    }
+
+    /**
+     * Parses the given plain scalar as the element type and appends it. The conversion is the same as
+     * {@link Values#fromStringWithType}, without creating the intermediate string and boxed values.
+     *
+     * @param value plain scalar
+     * @return false if the scalar cannot be converted, in which case it is not appended
+     */
+    boolean append(String value) {
+        try {
+            switch (elementTypeTag) {
+                case TypeTags.INT_TAG -> {
+                    long intValue = Long.parseLong(value);
+                    ensureCapacity();
+                    intValues[size] = intValue;
+                }
+                case TypeTags.FLOAT_TAG -> {
+                    if (Values.hasFloatOrDecimalLiteralSuffix(value)) {
+                        return false;
+                    }
+                    double floatValue = Double.parseDouble(value);
+                    ensureCapacity();
+                    floatValues[size] = floatValue;
+                }
+                case TypeTags.BYTE_TAG -> {
+                    int byteValue = Integer.parseInt(value);
+                    if (!Values.isByteLiteral(byteValue)) {
+                        return false;
+                    }
+                    ensureCapacity();
+                    byteValues[size] = (byte) byteValue;
+                }
+                case TypeTags.BOOLEAN_TAG -> {
+                    boolean isTrue = value.equals("true");
+                    if (!isTrue && !value.equals("false")) {
+                        return false;
+                    }
+                    ensureCapacity();
+                    booleanValues[size] = isTrue;
+                }
+                default -> array.add(size, ValueCreator.createDecimalValue(value));
+            }
+        } catch (RuntimeException e) {
+            // Let the generic conversion report the error
+            return false;
+        }
+        size++;
+        return true;
+    }
+
+    /**
+     * Adds the collected members to the array value, used when a member of the sequence cannot be collected and
+     * the rest of the sequence is composed into the array value directly.
+     */
+    void flush() {
+        for (int i = 0; i < size; i++) {
+            switch (elementTypeTag) {
+                case TypeTags.INT_TAG -> array.add(i, intValues[i]);
+                case TypeTags.FLOAT_TAG -> array.add(i, floatValues[i]);
+                case TypeTags.BYTE_TAG -> array.add(i, byteValues[i]);
+                case TypeTags.BOOLEAN_TAG -> array.add(i, booleanValues[i]);
+                default -> {
+                    // Decimals are already in the array value
+                    return;
+                }
+            }
+        }
+    }
+
+    BArray build() {
+        return switch (elementTypeTag) {
+            case TypeTags.INT_TAG -> ValueCreator.createArrayValue(Arrays.copyOf(intValues, size));
+            case TypeTags.FLOAT_TAG -> ValueCreator.createArrayValue(Arrays.copyOf(floatValues, size));
+            case TypeTags.BYTE_TAG -> ValueCreator.createArrayValue(Arrays.copyOf(byteValues, size));
+            case TypeTags.BOOLEAN_TAG -> ValueCreator.createArrayValue(Arrays.copyOf(booleanValues, size));
+            default -> array;
+        };
+    }
+
+    private void ensureCapacity() {
+        int capacity = switch (elementTypeTag) {
+            case TypeTags.INT_TAG -> intValues.length;
+            case TypeTags.FLOAT_TAG -> floatValues.length;
+            case TypeTags.BYTE_TAG -> byteValues.length;
+            default -> booleanValues.length;
+        };
+        if (size < capacity) {
+            return;
+        }
+        int newCapacity = capacity << 1;
+        switch (elementTypeTag) {
+            case TypeTags.INT_TAG -> intValues = Arrays.copyOf(intValues, newCapacity);
+            case TypeTags.FLOAT_TAG -> floatValues = Arrays.copyOf(floatValues, newCapacity);
+            case TypeTags.BYTE_TAG -> byteValues = Arrays.copyOf(byteValues, newCapacity);
+            default -> booleanValues = Arrays.copyOf(booleanValues, newCapacity);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.data.yaml.parser;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Bounded table which maps the mapping keys and the short string values of a parse to a single string value.
+ * Documents with many mappings of the same shape repeat the same keys, hence the composed values share the
+ * string values instead of retaining a copy per mapping.
+ *
+ * @since 0.1.0
+ */
+class StringInternTable {
+
+    static final int MAX_VALUE_LENGTH = 32;
+    private static final int MAX_ENTRIES = 4096;
+
+    private final Map<String, BString> strings = new HashMap<>();
+
+    /**
+     * Returns the string value for the given string, creating it if it is not already in the table.
+     * Once the table is full, new strings are created without being added to the table.
+     *
+     * @param value string to be interned
+     * @return string value, or null if the given string is null
+     */
+    BString intern(String value) {
+        if (value == null) {
+            return null;
+        }
+        BString interned = strings.get(value);
+        if (interned == null) {
+            interned = StringUtils.fromString(value);
+            if (strings.size() < MAX_ENTRIES) {
+                strings.put(interned.getValue(), interned);
+            }
+        }
+        return interned;
+    }
+
+    /**
+     * Returns the canonical instance of the given mapping key.
+     *
+     * @param key mapping key
+     * @return interned key, or null if the given key is null
+     */
+    String internKey(String key) {
+        BString interned = intern(key);
+        return interned == null ? null : interned.getValue();
+    }
+
+    void clear() {
+        strings.clear();
+    }
+}
@@ -18,6 +18,7 @@
 
 package io.ballerina.lib.data.yaml.parser;
 
+import io.ballerina.lib.data.yaml.common.ArrayStack;
 import io.ballerina.lib.data.yaml.common.Types;
 import io.ballerina.lib.data.yaml.utils.DiagnosticErrorCode;
 import io.ballerina.lib.data.yaml.utils.DiagnosticLog;
@@ -43,8 +44,8 @@ import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BDecimal;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BRefValue;
 import io.ballerina.runtime.api.values.BString;
-import org.ballerinalang.langlib.value.CloneReadOnly;
 
 import java.util.ArrayList;
 import java.util.Comparator;
@@ -52,7 +53,6 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
-import java.util.Stack;
 
 import static io.ballerina.lib.data.yaml.parser.ParserUtils.getAllFieldsInRecord;
 
@@ -120,7 +120,7 @@ public class Values {
             case TypeTags.UNION_TAG -> {
                 state.parserContexts.push(YamlParser.ParserContext.MAP);
                 state.unionDepth++;
-                state.fieldNameHierarchy.push(new Stack<>());
+                state.fieldNameHierarchy.push(new ArrayStack<>());
                 return ValueCreator.createMapValue(JSON_MAP_TYPE);
             }
             default -> throw DiagnosticLog.error(DiagnosticErrorCode.INVALID_TYPE, expectedType, "map type");
@@ -205,6 +205,10 @@ public class Values {
             }
             throw DiagnosticLog.error(DiagnosticErrorCode.INCOMPATIBLE_TYPE, type, value);
         }
+        if (convertedValue instanceof BString stringValue
+                && stringValue.length() <= StringInternTable.MAX_VALUE_LENGTH) {
+            convertedValue = sm.internedStrings.intern(stringValue.getValue());
+        }
 
         return updateCurrentValueNode(sm, currentYaml, convertedValue);
     }
@@ -213,9 +217,9 @@ public class Values {
         Type currentJsonNodeType = TypeUtils.getType(currentYaml);
         switch (currentJsonNodeType.getTag()) {
             case TypeTags.MAP_TAG, TypeTags.RECORD_TYPE_TAG -> {
-                BString fieldName = StringUtils.fromString(sm.fieldNameHierarchy.peek().pop());
+                BString fieldName = sm.internedStrings.intern(sm.fieldNameHierarchy.peek().pop());
                 if (fieldName == null) {
-                    fieldName = StringUtils.fromString("null");
+                    fieldName = sm.internedStrings.intern(NULL_VALUE);
                 }
                 ((BMap<BString, Object>) currentYaml).put(fieldName, convertedValue);
                 return currentYaml;
@@ -241,7 +245,7 @@ public class Values {
     }
 
     private static String getCurrentFieldPath(YamlParser.ComposerState sm) {
-        Iterator<Stack<String>> itr = sm.fieldNameHierarchy.iterator();
+        Iterator<ArrayStack<String>> itr = sm.fieldNameHierarchy.iterator();
         StringBuilder result = new StringBuilder(itr.hasNext() ? itr.next().peek() : "");
         while (itr.hasNext()) {
             result.append(".").append(itr.next().peek());
@@ -277,7 +281,7 @@ public class Values {
         YamlParser.ParserContext parentContext = state.parserContexts.peek();
         state.parserContexts.push(YamlParser.ParserContext.MAP);
         if (expType == null) {
-            state.fieldNameHierarchy.push(new Stack<>());
+            state.fieldNameHierarchy.push(new ArrayStack<>());
             return Optional.empty();
         }
         if (state.currentYamlNode != null) {
@@ -321,7 +325,7 @@ public class Values {
                 nextMapValue = ValueCreator.createMapValue(JSON_MAP_TYPE);
                 state.parserContexts.push(YamlParser.ParserContext.MAP);
                 state.unionDepth++;
-                state.fieldNameHierarchy.push(new Stack<>());
+                state.fieldNameHierarchy.push(new ArrayStack<>());
             }
             default -> {
                 if (parentContext == YamlParser.ParserContext.ARRAY) {
@@ -631,11 +635,22 @@ public class Values {
         return returnError(string.getValue(), expType.toString());
     }
 
+    /**
+     * Makes the given value readonly in place. Unlike `cloneReadOnly`, the value is not copied, since the values
+     * created while parsing are not shared with the caller. Hence, the value must not contain an aliased value
+     * which is also referred by a mutable part of the document.
+     *
+     * @param value value created while parsing
+     * @return the given value
+     */
     public static Object constructReadOnlyValue(Object value) {
-        return CloneReadOnly.cloneReadOnly(value);
+        if (value instanceof BRefValue refValue && !refValue.isFrozen()) {
+            refValue.freezeDirect();
+        }
+        return value;
     }
 
-    private static boolean hasFloatOrDecimalLiteralSuffix(String value) {
+    static boolean hasFloatOrDecimalLiteralSuffix(String value) {
         int length = value.length();
         if (length == 0) {
             return false;
@@ -652,7 +667,7 @@ public class Values {
         }
     }
 
-    private static boolean isByteLiteral(long longValue) {
+    static boolean isByteLiteral(long longValue) {
         return (longValue >= BBYTE_MIN_VALUE && longValue <= BBYTE_MAX_VALUE);
     }
 
@@ -18,13 +18,18 @@
 
 package io.ballerina.lib.data.yaml.parser;
 
+import io.ballerina.lib.data.yaml.common.ArrayStack;
+import io.ballerina.lib.data.yaml.common.IntStack;
 import io.ballerina.lib.data.yaml.common.Types;
 import io.ballerina.lib.data.yaml.common.Types.Collection;
 import io.ballerina.lib.data.yaml.common.YamlEvent;
+import io.ballerina.lib.data.yaml.io.DataReaderThreadPool;
 import io.ballerina.lib.data.yaml.lexer.IndentUtils;
 import io.ballerina.lib.data.yaml.lexer.LexerState;
 import io.ballerina.lib.data.yaml.lexer.Token;
 import io.ballerina.lib.data.yaml.lexer.YamlLexer;
+import io.ballerina.lib.data.yaml.metrics.ParseMetrics;
+import io.ballerina.lib.data.yaml.metrics.YamlUnionFallbackEvent;
 import io.ballerina.lib.data.yaml.utils.Constants;
 import io.ballerina.lib.data.yaml.utils.DataUtils;
 import io.ballerina.lib.data.yaml.utils.DiagnosticErrorCode;
@@ -51,21 +56,26 @@ import io.ballerina.runtime.api.utils.TypeUtils;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BRefValue;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BTypedesc;
 import org.ballerinalang.langlib.value.CloneReadOnly;
 
 import java.io.Reader;
+import java.io.StringReader;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
-import java.util.Stack;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static io.ballerina.lib.data.yaml.common.Types.Collection.SEQUENCE;
 import static io.ballerina.lib.data.yaml.common.Types.DocumentType.ANY_DOCUMENT;
@@ -106,33 +116,46 @@ import static io.ballerina.lib.data.yaml.utils.Constants.ENABLE_CONSTRAINT_VALID
  */
 public class YamlParser {
 
+    // Released composer states are shared by the parses of all the threads, keeping at most a state per processor
+    private static final int COMPOSER_STATE_POOL_SIZE = Runtime.getRuntime().availableProcessors();
+    private static final Queue<ComposerState> COMPOSER_STATE_POOL = new ConcurrentLinkedQueue<>();
+    private static final AtomicInteger POOLED_COMPOSER_STATE_COUNT = new AtomicInteger();
+
     private YamlParser() {
     }
 
     public static class ComposerState {
         private final ParserState parserState;
-        private final Map<String, Object> anchorBuffer = new HashMap<>();
+        private final Map<String, Object> anchorBuffer;
+        // Events of the anchored collections, to compose them again when their values cannot be shared
+        private final Map<String, List<YamlEvent>> anchorEvents;
+        private final ArrayStack<List<YamlEvent>> eventRecorders;
+        private final Set<String> replayedAnchors;
+        private Iterator<YamlEvent> replayedEvents = null;
+        final StringInternTable internedStrings = new StringInternTable();
+        final MappingKeyTracker mappingKeys = new MappingKeyTracker();
         Object currentYamlNode;
         Field currentField;
         Deque<Object> nodesStack = new ArrayDeque<>();
-        Stack<Map<String, Field>> fieldHierarchy = new Stack<>();
-        Stack<Map<String, Field>> visitedFieldHierarchy = new Stack<>();
-        Stack<Type> restType = new Stack<>();
-        Stack<Type> expectedTypes = new Stack<>();
-        Stack<Stack<String>> fieldNameHierarchy = new Stack<>();
+        ArrayStack<Map<String, Field>> fieldHierarchy = new ArrayStack<>();
+        ArrayStack<Map<String, Field>> visitedFieldHierarchy = new ArrayStack<>();
+        ArrayStack<Type> restType = new ArrayStack<>();
+        ArrayStack<Type> expectedTypes = new ArrayStack<>();
+        ArrayStack<ArrayStack<String>> fieldNameHierarchy = new ArrayStack<>();
         int jsonFieldDepth = 0;
-        Stack<Integer> arrayIndexes = new Stack<>();
-        Stack<ParserContext> parserContexts = new Stack<>();
+        IntStack arrayIndexes = new IntStack();
+        ArrayStack<ParserContext> parserContexts = new ArrayStack<>();
         YamlEvent terminatedDocEvent = null;
         int unionDepth = 0;
         boolean rootValueInitialized = false;
-        final Types.YAMLSchema schema;
-        final boolean allowAnchorRedefinition;
-        final boolean allowMapEntryRedefinition;
-        final boolean allowDataProjection;
-        final boolean nilAsOptionalField;
-        final boolean absentAsNilableType;
-        final boolean enableYamlStreamReorder;
+        Types.YAMLSchema schema;
+        boolean allowAnchorRedefinition;
+        boolean allowMapEntryRedefinition;
+        boolean allowDataProjection;
+        boolean nilAsOptionalField;
+        boolean absentAsNilableType;
+        boolean enableYamlStreamReorder;
+        ParseMetrics metrics;
         boolean expectedTypeIsReadonly = false;
         boolean isPossibleStream = false;
         DynamicTupleState dynamicTupleState = null;
@@ -140,6 +163,36 @@ public class YamlParser {
 
         public ComposerState(ParserState parserState, OptionsUtils.ReadConfig readConfig) {
             this.parserState = parserState;
+            this.anchorBuffer = new HashMap<>();
+            this.anchorEvents = new HashMap<>();
+            this.eventRecorders = new ArrayStack<>();
+            this.replayedAnchors = new HashSet<>();
+            configure(readConfig);
+        }
+
+        /**
+         * Creates a state to compose a node which is not a part of the value composed by the given state. The
+         * parser, the anchors, the recorded and the replayed events, and the options are shared with the given
+         * state.
+         */
+        private ComposerState(ComposerState state) {
+            this.parserState = state.parserState;
+            this.anchorBuffer = state.anchorBuffer;
+            this.anchorEvents = state.anchorEvents;
+            this.eventRecorders = state.eventRecorders;
+            this.replayedAnchors = state.replayedAnchors;
+            this.replayedEvents = state.replayedEvents;
+            this.schema = state.schema;
+            this.allowAnchorRedefinition = state.allowAnchorRedefinition;
+            this.allowMapEntryRedefinition = state.allowMapEntryRedefinition;
+            this.allowDataProjection = state.allowDataProjection;
+            this.nilAsOptionalField = state.nilAsOptionalField;
+            this.absentAsNilableType = state.absentAsNilableType;
+            this.enableYamlStreamReorder = state.enableYamlStreamReorder;
+            this.metrics = state.metrics;
+        }
+
+        private void configure(OptionsUtils.ReadConfig readConfig) {
             this.schema = readConfig.schema();
             this.allowAnchorRedefinition = readConfig.allowAnchorRedefinition();
             this.allowMapEntryRedefinition = readConfig.allowMapEntryRedefinition();
@@ -147,6 +200,40 @@ public class YamlParser {
             this.nilAsOptionalField = readConfig.nilAsOptionalField();
             this.absentAsNilableType = readConfig.absentAsNilableType();
             this.enableYamlStreamReorder = readConfig.enableYamlStreamReorder();
+            this.metrics = parserState.getMetrics();
+        }
+
+        /**
+         * Clears the composed values and the type hierarchies, so that the state can be reused for another
+         * input without retaining the values of the previous one.
+         */
+        private void release() {
+            anchorBuffer.clear();
+            anchorEvents.clear();
+            eventRecorders.clear();
+            replayedAnchors.clear();
+            replayedEvents = null;
+            internedStrings.clear();
+            mappingKeys.clear();
+            currentYamlNode = null;
+            currentField = null;
+            nodesStack.clear();
+            fieldHierarchy.clear();
+            visitedFieldHierarchy.clear();
+            restType.clear();
+            expectedTypes.clear();
+            fieldNameHierarchy.clear();
+            jsonFieldDepth = 0;
+            arrayIndexes.clear();
+            parserContexts.clear();
+            terminatedDocEvent = null;
+            unionDepth = 0;
+            rootValueInitialized = false;
+            metrics = null;
+            expectedTypeIsReadonly = false;
+            isPossibleStream = false;
+            dynamicTupleState = null;
+            parserState.release();
         }
 
         public int getLine() {
@@ -158,15 +245,14 @@ public class YamlParser {
         }
 
         private void updateIndexOfArrayElement() {
-            int arrayIndex = arrayIndexes.pop();
-            arrayIndexes.push(arrayIndex + 1);
+            arrayIndexes.incrementTop();
         }
 
         public void updateFieldHierarchiesAndRestType(Map<String, Field> fields, Type restType) {
             this.fieldHierarchy.push(new HashMap<>(fields));
             this.visitedFieldHierarchy.push(new HashMap<>());
             this.restType.push(restType);
-            this.fieldNameHierarchy.push(new Stack<>());
+            this.fieldNameHierarchy.push(new ArrayStack<>());
         }
 
         private void checkUnionAndFinalizeArrayObject() {
@@ -238,7 +324,20 @@ public class YamlParser {
                 options.put(Constants.ALLOW_DATA_PROJECTION, allowDataProjectionMap);
             }
 
-            return JsonTraverse.traverse(json, options, expectedTypes.peek(), schema);
+            if (metrics != null) {
+                metrics.addUnionFallback();
+            }
+            Type expectedType = expectedTypes.peek();
+            YamlUnionFallbackEvent event = new YamlUnionFallbackEvent();
+            event.begin();
+            boolean successful = false;
+            try {
+                Object result = JsonTraverse.traverse(json, options, expectedType, schema);
+                successful = true;
+                return result;
+            } finally {
+                event.commit(expectedType, YamlUnionFallbackEvent.VALUE_REBUILD, 0, successful);
+            }
         }
 
         private void finalizeObject() {
@@ -264,10 +363,10 @@ public class YamlParser {
             if (parentNodeTypeTag == TypeTags.RECORD_TYPE_TAG || parentNodeTypeTag == TypeTags.MAP_TAG) {
                 Type expType = TypeUtils.getReferredType(expectedTypes.peek());
                 if (expType.getTag() == TypeTags.INTERSECTION_TAG) {
-                    currentYamlNode = CloneReadOnly.cloneReadOnly(currentYamlNode);
+                    currentYamlNode = Values.constructReadOnlyValue(currentYamlNode);
                 }
-                ((BMap<BString, Object>) parentNode).put(StringUtils.fromString(fieldNameHierarchy.peek().pop()),
-                            currentYamlNode);
+                BString fieldName = internedStrings.intern(fieldNameHierarchy.peek().pop());
+                ((BMap<BString, Object>) parentNode).put(fieldName, currentYamlNode);
                 currentYamlNode = parentNode;
                 return;
             }
@@ -282,14 +381,14 @@ public class YamlParser {
                     }
                     Type expType = TypeUtils.getReferredType(expectedTypes.peek());
                     if (expType.getTag() == TypeTags.INTERSECTION_TAG) {
-                        currentYamlNode = CloneReadOnly.cloneReadOnly(currentYamlNode);
+                        currentYamlNode = Values.constructReadOnlyValue(currentYamlNode);
                     }
                     ((BArray) parentNode).add(arrayIndexes.peek(), currentYamlNode);
                 }
                 case TypeTags.TUPLE_TAG -> {
                     Type expType = TypeUtils.getReferredType(expectedTypes.peek());
                     if (expType.getTag() == TypeTags.INTERSECTION_TAG) {
-                        currentYamlNode = CloneReadOnly.cloneReadOnly(currentYamlNode);
+                        currentYamlNode = Values.constructReadOnlyValue(currentYamlNode);
                     }
                     ((BArray) parentNode).add(arrayIndexes.peek(), currentYamlNode);
                 }
@@ -314,8 +413,8 @@ public class YamlParser {
             Type parentNodeType = TypeUtils.getType(parentNode);
             int parentNodeTypeTag = TypeUtils.getReferredType(parentNodeType).getTag();
             if (parentNodeTypeTag == TypeTags.RECORD_TYPE_TAG || parentNodeTypeTag == TypeTags.MAP_TAG) {
-                ((BMap<BString, Object>) parentNode).put(StringUtils.fromString(fieldNameHierarchy.peek().pop()),
-                        currentYamlNode);
+                BString fieldName = internedStrings.intern(fieldNameHierarchy.peek().pop());
+                ((BMap<BString, Object>) parentNode).put(fieldName, currentYamlNode);
                 currentYamlNode = parentNode;
                 return;
             }
@@ -361,12 +460,12 @@ public class YamlParser {
             switch (type.getTag()) {
                 case TypeTags.RECORD_TYPE_TAG -> {
                     RecordType recordType = (RecordType) type;
-                    expectedTypes.add(recordType);
+                    expectedTypes.push(recordType);
                     updateFieldHierarchiesAndRestType(getAllFieldsInRecord(recordType), recordType.getRestFieldType());
                 }
                 case TypeTags.ARRAY_TAG -> {
                     isPossibleStream = true;
-                    expectedTypes.add(type);
+                    expectedTypes.push(type);
                     arrayIndexes.push(0);
                     Type elementType = TypeUtils.getReferredType(((ArrayType) type).getElementType());
                     Type unionType = TypeCreator.createUnionType(type, elementType);
@@ -374,7 +473,7 @@ public class YamlParser {
                 }
                 case TypeTags.TUPLE_TAG -> {
                     isPossibleStream = true;
-                    expectedTypes.add(type);
+                    expectedTypes.push(type);
                     arrayIndexes.push(0);
                     TupleType tupleType = (TupleType) type;
                     List<Type> tupleElementTypes = tupleType.getTupleTypes();
@@ -450,20 +549,172 @@ public class YamlParser {
      * @throws BError for any parsing error
      */
     public static Object compose(Reader reader, BMap<BString, Object> options, BTypedesc typed) throws BError {
+        return compose(reader, options, typed, null);
+    }
+
+    /**
+     * Parses the contents in the given {@link Reader} and returns subtype of anydata value.
+     *
+     * @param reader reader which contains the YAML content
+     * @param options represent the options that can be used to modify the behaviour of conversion
+     * @param typed Shape of the YAML content required
+     * @param metrics collector of the parse metrics, or null if the metrics are not required
+     * @return subtype of anydata value
+     * @throws BError for any parsing error
+     */
+    public static Object compose(Reader reader, BMap<BString, Object> options, BTypedesc typed,
+                                 ParseMetrics metrics) throws BError {
         OptionsUtils.ReadConfig readConfig = OptionsUtils.resolveReadConfig(options);
-        ComposerState composerState = new ComposerState(new ParserState(reader), readConfig);
-        composerState.handleExpectedType(typed.getDescribingType());
+        Object result = composeValue(reader, readConfig, typed.getDescribingType(), metrics);
+        if (result instanceof BError) {
+            return result;
+        }
+        return validateConstraints(result, options, typed, metrics);
+    }
+
+    /**
+     * Parses the documents of the given YAML stream concurrently and returns subtype of anydata value.
+     * Falls back to {@link #compose(Reader, BMap, BTypedesc)} when the stream, the expected type or the anchor
+     * redefinition option does not allow the documents to be composed independently, or when any of the documents
+     * fails, so that the reported error is identical to the sequential parser.
+     *
+     * @param content YAML stream
+     * @param options represent the options that can be used to modify the behaviour of conversion
+     * @param typed Shape of the YAML content required
+     * @param metrics collector of the parse metrics, or null if the metrics are not required
+     * @return subtype of anydata value
+     * @throws BError for any parsing error
+     */
+    public static Object composeInParallel(String content, BMap<BString, Object> options, BTypedesc typed,
+                                           ParseMetrics metrics) throws BError {
+        OptionsUtils.ReadConfig readConfig = OptionsUtils.resolveReadConfig(options);
+        Type expectedType = TypeUtils.getReferredType(typed.getDescribingType());
+        Type elementType = getStreamElementType(expectedType);
+        // The anchors of a stream are defined for all the documents, hence a redefinition in a later document is
+        // only detected by the sequential parser
+        List<String> documents = elementType == null || !readConfig.allowAnchorRedefinition() ? null :
+                DocumentBoundaryScanner.split(content);
+        if (documents == null || documents.size() < 2) {
+            return compose(new StringReader(content), options, typed, metrics);
+        }
+
+        // Each document is collected separately as the collectors are not thread-safe
+        ParseMetrics[] documentMetrics = new ParseMetrics[documents.size()];
+        List<Object> values = DataReaderThreadPool.mapInParallel(documents.size(), i -> {
+            documentMetrics[i] = metrics == null ? null : metrics.createChild();
+            return composeValue(new StringReader(documents.get(i)), readConfig, elementType, documentMetrics[i]);
+        });
+
+        BArray result = Values.initArrayValue(null, expectedType);
+        for (int i = 0; i < values.size(); i++) {
+            Object value = values.get(i);
+            if (value instanceof BError) {
+                return compose(new StringReader(content), options, typed, metrics);
+            }
+            result.add(i, value);
+        }
+        if (metrics != null) {
+            for (ParseMetrics child : documentMetrics) {
+                metrics.merge(child);
+            }
+        }
+        return validateConstraints(result, options, typed, metrics);
+    }
+
+    private static Object validateConstraints(Object value, BMap<BString, Object> options, BTypedesc typed,
+                                              ParseMetrics metrics) {
+        boolean requireValidation = (Boolean) options.get(ENABLE_CONSTRAINT_VALIDATION);
+        if (metrics == null || !requireValidation) {
+            return DataUtils.validateConstraints(value, typed, requireValidation);
+        }
+        long startTime = System.nanoTime();
         try {
-            Object result = composerState.isPossibleStream ?
+            return DataUtils.validateConstraints(value, typed, true);
+        } finally {
+            metrics.addConstraintValidationTime(System.nanoTime() - startTime);
+        }
+    }
+
+    private static Type getStreamElementType(Type expectedType) {
+        return switch (expectedType.getTag()) {
+            case TypeTags.ARRAY_TAG -> ((ArrayType) expectedType).getState() == ArrayType.ArrayState.OPEN ?
+                    ((ArrayType) expectedType).getElementType() : null;
+            case TypeTags.JSON_TAG, TypeTags.ANYDATA_TAG -> expectedType;
+            default -> null;
+        };
+    }
+
+    static Object composeValue(Reader reader, OptionsUtils.ReadConfig readConfig, Type expectedType,
+                               ParseMetrics metrics) {
+        ComposerState composerState = acquireComposerState(reader, readConfig, metrics);
+        ParserState parserState = composerState.parserState;
+        long startTime = metrics == null ? 0 : System.nanoTime();
+        try {
+            composerState.handleExpectedType(expectedType);
+            return composerState.isPossibleStream ?
                     composeStream(composerState) : composeDocument(composerState);
-            if (result instanceof BError) {
-                return result;
+        } catch (Error.YamlParserException e) {
+            return DiagnosticLog.error(DiagnosticErrorCode.YAML_PARSER_EXCEPTION,
+                    e.getMessage(), e.getLine(), e.getColumn());
+        } catch (BError e) {
+            return e;
+        } finally {
+            if (metrics != null) {
+                metrics.addComposingTime(System.nanoTime() - startTime);
+                metrics.addInputCodePoints(parserState.getLexerState().getReadCodePoints());
             }
-            return DataUtils.validateConstraints(result, typed,
-                    (Boolean) options.get(ENABLE_CONSTRAINT_VALIDATION));
+            releaseComposerState(composerState);
+        }
+    }
+
+    /**
+     * Converts the contents in the given {@link Reader} to JSON text without composing the anydata value.
+     *
+     * @param reader reader which contains the YAML content
+     * @param readConfig read configurations
+     * @return JSON text, or an error if the content cannot be parsed
+     */
+    public static Object transcodeToJson(Reader reader, OptionsUtils.ReadConfig readConfig) {
+        ComposerState composerState = acquireComposerState(reader, readConfig, null);
+        try {
+            return StringUtils.fromString(new JsonTranscoder(composerState).transcode());
         } catch (Error.YamlParserException e) {
-             return DiagnosticLog.error(DiagnosticErrorCode.YAML_PARSER_EXCEPTION,
-                     e.getMessage(), e.getLine(), e.getColumn());
+            return DiagnosticLog.error(DiagnosticErrorCode.YAML_PARSER_EXCEPTION,
+                    e.getMessage(), e.getLine(), e.getColumn());
+        } catch (BError e) {
+            return e;
+        } finally {
+            releaseComposerState(composerState);
+        }
+    }
+
+    /**
+     * Returns a released composer state reset for the given input, or a new state if there is no released state.
+     */
+    static ComposerState acquireComposerState(Reader reader, OptionsUtils.ReadConfig readConfig,
+                                              ParseMetrics metrics) {
+        ComposerState composerState = COMPOSER_STATE_POOL.poll();
+        if (composerState == null) {
+            ParserState parserState = new ParserState(reader);
+            parserState.setMetrics(metrics);
+            return new ComposerState(parserState, readConfig);
+        }
+        POOLED_COMPOSER_STATE_COUNT.decrementAndGet();
+        composerState.parserState.reset(reader);
+        composerState.parserState.setMetrics(metrics);
+        composerState.configure(readConfig);
+        return composerState;
+    }
+
+    /**
+     * Clears the given composer state and keeps it for the following parses, unless the pool is already full.
+     */
+    static void releaseComposerState(ComposerState composerState) {
+        composerState.release();
+        if (POOLED_COMPOSER_STATE_COUNT.incrementAndGet() <= COMPOSER_STATE_POOL_SIZE) {
+            COMPOSER_STATE_POOL.offer(composerState);
+        } else {
+            POOLED_COMPOSER_STATE_COUNT.decrementAndGet();
         }
     }
 
@@ -473,6 +724,9 @@ public class YamlParser {
 
     private static Object composeDocument(ComposerState state, YamlEvent eventParam) throws Error.YamlParserException {
         YamlEvent event = eventParam == null ? handleEvent(state, ANY_DOCUMENT) : eventParam;
+        if (state.metrics != null) {
+            state.metrics.addDocument();
+        }
 
         // Ignore the start document marker for explicit documents
         if (event.getKind() == YamlEvent.EventKind.DOCUMENT_MARKER_EVENT &&
@@ -622,7 +876,7 @@ public class YamlParser {
                 if (peekType.getTag() == TypeTags.ARRAY_TAG) {
                     elementType = TypeUtils.getReferredType(((ArrayType) peekType).getElementType());
                 } else if (peekType.getTag() == TypeTags.UNION_TAG) {
-                    state.expectedTypes.add(PredefinedTypes.TYPE_JSON);
+                    state.expectedTypes.push(PredefinedTypes.TYPE_JSON);
                     continue;
                 } else {
                     TupleType tupleType = (TupleType) peekType;
@@ -639,7 +893,7 @@ public class YamlParser {
                 }
                 if (isTupleExpected && state.enableYamlStreamReorder) {
                     DynamicTupleState dynamicTupleState = state.dynamicTupleState;
-                    state.expectedTypes.add(dynamicTupleState.tupleMembersUnion);
+                    state.expectedTypes.push(dynamicTupleState.tupleMembersUnion);
                     state.unionDepth = 0;
                     Object result;
                     try {
@@ -647,7 +901,7 @@ public class YamlParser {
                     } catch (Exception e) {
                         state.expectedTypes.pop();
                         state.currentYamlNode = Values.initRootArrayValue(state);
-                        state.expectedTypes.add(dynamicTupleState.tupleMembersUnion);
+                        state.expectedTypes.push(dynamicTupleState.tupleMembersUnion);
                         state.unionDepth = 1;
                         state.nodesStack.add(state.currentYamlNode);
                         state.currentYamlNode = bArray;
@@ -662,7 +916,7 @@ public class YamlParser {
                     if (dynamicTupleState.isTupleValueCompleted() && !dynamicTupleState.canAddMoreRestMembers()) {
                         break;
                     }
-                    state.expectedTypes.add(dynamicTupleState.tupleMembersUnion);
+                    state.expectedTypes.push(dynamicTupleState.tupleMembersUnion);
                     state.unionDepth = 1;
                     state.nodesStack.add(state.currentYamlNode);
                     state.currentYamlNode = bArray;
@@ -670,7 +924,7 @@ public class YamlParser {
                 }
 
                 if (elementType.getTag() == TypeTags.UNION_TAG) {
-                    state.expectedTypes.add(elementType);
+                    state.expectedTypes.push(elementType);
                 } else {
                     state.expectedTypes.push(elementType);
                     state.unionDepth = 0;
@@ -695,7 +949,7 @@ public class YamlParser {
             if (isTupleExpected && state.enableYamlStreamReorder) {
                 BArray bArray = (BArray) state.currentYamlNode;
                 state.expectedTypes.pop();
-                state.expectedTypes.add(state.dynamicTupleState.tupleMembersUnion);
+                state.expectedTypes.push(state.dynamicTupleState.tupleMembersUnion);
                 state.unionDepth = 0;
                 Object result;
                 try {
@@ -714,7 +968,7 @@ public class YamlParser {
                         !state.dynamicTupleState.canAddMoreRestMembers()) {
                     break;
                 }
-                state.expectedTypes.add(state.dynamicTupleState.tupleMembersUnion);
+                state.expectedTypes.push(state.dynamicTupleState.tupleMembersUnion);
                 state.unionDepth = 1;
                 state.nodesStack.add(state.currentYamlNode);
                 state.currentYamlNode = bArray;
@@ -781,6 +1035,9 @@ public class YamlParser {
             if (alias == null) {
                 throw new Error.YamlParserException("anchor does not exist", state.getLine(), state.getColumn());
             }
+            if (state.metrics != null) {
+                state.metrics.addAlias();
+            }
             return alias;
         }
 
@@ -795,10 +1052,20 @@ public class YamlParser {
             return null;
         }
 
+        if (state.metrics != null) {
+            state.metrics.addNode();
+        }
+
         Object output;
         // Check for collections
         if (eventKind == YamlEvent.EventKind.START_EVENT) {
             YamlEvent.StartEvent startEvent = (YamlEvent.StartEvent) event;
+            boolean recordEvents = event.getAnchor() != null && state.replayedEvents == null;
+            if (recordEvents) {
+                List<YamlEvent> recordedEvents = new ArrayList<>();
+                recordedEvents.add(event);
+                state.eventRecorders.push(recordedEvents);
+            }
 
             if (startEvent.getStartType() == SEQUENCE) {
                 output = castData(state, composeSequence(state, startEvent.isFlowStyle()),
@@ -807,7 +1074,7 @@ public class YamlParser {
                 output = castData(state, composeMapping(state, startEvent.isFlowStyle(), startEvent.isImplicit()),
                         Types.FailSafeSchema.MAPPING, event.getTag());
             }
-            checkAnchor(state, event, output);
+            checkAnchor(state, event, output, recordEvents ? state.eventRecorders.pop() : null);
             return state.currentYamlNode;
         }
 
@@ -815,7 +1082,7 @@ public class YamlParser {
 
         // Check for scalar
         output =  castData(state, scalarEvent.getValue(), Types.FailSafeSchema.STRING, event.getTag());
-        checkAnchor(state, event, output);
+        checkAnchor(state, event, output, null);
         if (mapOrSequenceScalar) {
             return output;
         }
@@ -848,6 +1115,9 @@ public class YamlParser {
             throws Error.YamlParserException {
         boolean firstElement = true;
         Values.updateNextArrayValueBasedOnExpType(state);
+        // Members of an open array of a primitive type are parsed straight into primitive storage
+        PrimitiveArrayBuilder primitiveArray = state.unionDepth == 0 && state.expectedTypes.peek() != null ?
+                PrimitiveArrayBuilder.forArray(state.currentYamlNode) : null;
 
         YamlEvent event = handleEvent(state, EXPECT_SEQUENCE_VALUE);
 
@@ -886,14 +1156,22 @@ public class YamlParser {
                 }
                 firstElement = false;
                 Values.updateExpectedType(state);
+                if (primitiveArray != null && event.getKind() != YamlEvent.EventKind.SCALAR_EVENT) {
+                    primitiveArray = flushPrimitiveArray(primitiveArray);
+                }
                 Object value = composeNode(state, event, true);
+                if (primitiveArray != null) {
+                    if (value instanceof String scalarValue && primitiveArray.append(scalarValue)) {
+                        state.expectedTypes.pop();
+                        event = handleEvent(state, EXPECT_SEQUENCE_ENTRY);
+                        continue;
+                    }
+                    primitiveArray = flushPrimitiveArray(primitiveArray);
+                }
                 if (value instanceof String scalarValue) {
                     processValue(state, scalarValue);
                 } else if (event.getKind() == YamlEvent.EventKind.ALIAS_EVENT) {
-                    state.nodesStack.push(state.currentYamlNode);
-                    state.currentYamlNode = state.verifyAndConvertToUnion(value);
-                    state.finalizeAnchorValueObject();
-                    state.expectedTypes.pop();
+                    addAliasValue(state, (YamlEvent.AliasEvent) event, value);
                 } else if (value == null || value instanceof Double
                         || value instanceof Long || value instanceof Boolean) {
                     state.currentYamlNode = Values.updateCurrentValueNode(state, state.currentYamlNode, value);
@@ -902,11 +1180,19 @@ public class YamlParser {
             }
         }
 
+        if (primitiveArray != null) {
+            state.currentYamlNode = primitiveArray.build();
+        }
         Object tmpCurrentYaml = state.currentYamlNode;
         state.checkUnionAndFinalizeArrayObject();
         return tmpCurrentYaml;
     }
 
+    private static PrimitiveArrayBuilder flushPrimitiveArray(PrimitiveArrayBuilder primitiveArray) {
+        primitiveArray.flush();
+        return null;
+    }
+
     public static Object composeMapping(ComposerState state, boolean flowStyle, boolean implicitMapping)
             throws Error.YamlParserException {
         if (!state.rootValueInitialized) {
@@ -914,7 +1200,10 @@ public class YamlParser {
         } else {
             Values.updateNextMapValueBasedOnExpType(state);
         }
-        Set<String> keys = new HashSet<>();
+        boolean checkDuplicateKeys = !state.allowMapEntryRedefinition;
+        // The keys are tracked regardless, so that the merged entries do not override the explicit entries
+        state.mappingKeys.startMapping();
+        List<BMap<BString, Object>> mergedMappings = null;
         YamlEvent event = handleEvent(state, EXPECT_MAP_KEY);
 
         // Iterate until an end event is detected
@@ -953,10 +1242,22 @@ public class YamlParser {
                 throw new RuntimeException("Cannot have nested mapping under a key-pair that is already assigned");
             }
 
+            if (ParserUtils.isMergeKey(event)) {
+                if (mergedMappings == null) {
+                    mergedMappings = new ArrayList<>();
+                }
+                addMergedMappings(state, handleEvent(state, EXPECT_MAP_VALUE), mergedMappings);
+                if (implicitMapping) {
+                    break;
+                }
+                event = handleEvent(state, EXPECT_MAP_KEY);
+                continue;
+            }
+
             // Compose the key
-            String key = (String) composeNode(state, event, true);
+            String key = state.internedStrings.internKey((String) composeNode(state, event, true));
 
-            if (!state.allowMapEntryRedefinition && !keys.add(key)) {
+            if (!state.mappingKeys.add(key) && checkDuplicateKeys) {
                 throw new Error.YamlParserException("cannot have duplicate map entries for '${key.toString()}",
                         state.getLine(), state.getColumn());
             }
@@ -1012,10 +1313,7 @@ public class YamlParser {
                         }
                     }
                 } else if (event.getKind() == YamlEvent.EventKind.ALIAS_EVENT) {
-                    state.nodesStack.push(state.currentYamlNode);
-                    state.currentYamlNode = state.verifyAndConvertToUnion(value);
-                    state.finalizeAnchorValueObject();
-                    state.expectedTypes.pop();
+                    addAliasValue(state, (YamlEvent.AliasEvent) event, value);
                 } else if (value == null || value instanceof Double
                         || value instanceof Long || value instanceof Boolean) {
                     state.currentYamlNode = Values.updateCurrentValueNode(state, state.currentYamlNode, value);
@@ -1030,11 +1328,178 @@ public class YamlParser {
             event = handleEvent(state, EXPECT_MAP_KEY);
         }
 
+        if (mergedMappings != null) {
+            mergeMappings(state, mergedMappings);
+        }
+        state.mappingKeys.endMapping();
         Object tmpCurrentYaml = state.currentYamlNode;
         state.checkUnionAndFinalizeNonArrayObject();
         return tmpCurrentYaml;
     }
 
+    private static void addAliasValue(ComposerState state, YamlEvent.AliasEvent event, Object value)
+            throws Error.YamlParserException {
+        if (value instanceof BRefValue refValue && (state.replayedEvents != null
+                || refValue.isFrozen() && !state.expectedTypeIsReadonly && !isInReadOnlyValue(state))) {
+            // The anchored value is frozen along with a readonly value, or it is a part of a node composed
+            // again, hence a value which is not shared with the anchor is composed
+            value = composeAnchoredNode(state, event.getAlias());
+        }
+        addSharedValue(state, value);
+    }
+
+    private static void addSharedValue(ComposerState state, Object value) {
+        if (isInReadOnlyValue(state)) {
+            // The value is frozen along with the enclosing value, hence it cannot be shared with the anchor
+            value = CloneReadOnly.cloneReadOnly(value);
+        }
+        state.nodesStack.push(state.currentYamlNode);
+        state.currentYamlNode = state.verifyAndConvertToUnion(value);
+        state.finalizeAnchorValueObject();
+        state.expectedTypes.pop();
+    }
+
+    private static boolean isInReadOnlyValue(ComposerState state) {
+        for (Type type : state.expectedTypes) {
+            if (type != null && TypeUtils.getReferredType(type).getTag() == TypeTags.INTERSECTION_TAG) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Collects the mappings referred by the value of a merge key, which is either a mapping or a sequence of
+     * mappings. Each mapping is either an alias or a node given in place.
+     */
+    private static void addMergedMappings(ComposerState state, YamlEvent event,
+                                          List<BMap<BString, Object>> mergedMappings)
+            throws Error.YamlParserException {
+        if (event.getKind() != YamlEvent.EventKind.START_EVENT
+                || ((YamlEvent.StartEvent) event).getStartType() != SEQUENCE) {
+            mergedMappings.add(getMergedMapping(state, event));
+            return;
+        }
+        YamlEvent memberEvent = handleEvent(state, EXPECT_SEQUENCE_VALUE);
+        while (memberEvent.getKind() != YamlEvent.EventKind.END_EVENT) {
+            mergedMappings.add(getMergedMapping(state, memberEvent));
+            memberEvent = handleEvent(state, EXPECT_SEQUENCE_ENTRY);
+        }
+        if (((YamlEvent.EndEvent) memberEvent).getEndType() != SEQUENCE) {
+            throw new Error.YamlParserException("unexpected event", state.getLine(), state.getColumn());
+        }
+    }
+
+    private static BMap<BString, Object> getMergedMapping(ComposerState state, YamlEvent event)
+            throws Error.YamlParserException {
+        Object mapping = null;
+        if (event.getKind() == YamlEvent.EventKind.ALIAS_EVENT) {
+            mapping = getAliasedMapping(state, (YamlEvent.AliasEvent) event);
+        } else if (event.getKind() == YamlEvent.EventKind.START_EVENT
+                && ((YamlEvent.StartEvent) event).getStartType() != SEQUENCE) {
+            mapping = composeMergedMapping(state, event);
+        }
+        if (mapping instanceof BMap<?, ?>) {
+            return (BMap<BString, Object>) mapping;
+        }
+        throw new Error.YamlParserException("merge key value must be a mapping or a sequence of mappings",
+                state.getLine(), state.getColumn());
+    }
+
+    /**
+     * Returns the mapping of the source referred by an alias. The anchored value is shared when it is frozen
+     * along with a readonly value being composed, and copied when a mutable value is composed. Otherwise, the
+     * anchored value is converted to another type, for instance a record which renames or projects the fields,
+     * or frozen, hence the mapping is composed again from the events of the anchored node.
+     */
+    private static Object getAliasedMapping(ComposerState state, YamlEvent.AliasEvent event)
+            throws Error.YamlParserException {
+        Object value = composeNode(state, event, true);
+        if (value instanceof BMap<?, ?> mapping && isAnydataMapping(mapping) && state.replayedEvents == null) {
+            if (state.expectedTypeIsReadonly || isInReadOnlyValue(state)) {
+                return mapping;
+            }
+            if (!mapping.isFrozen()) {
+                return mapping.copy(new HashMap<>());
+            }
+        }
+        if (!(value instanceof BMap<?, ?>)) {
+            return value;
+        }
+        return composeAnchoredNode(state, event.getAlias());
+    }
+
+    private static boolean isAnydataMapping(BMap<?, ?> mapping) {
+        Type type = TypeUtils.getImpliedType(mapping.getType());
+        if (type.getTag() != TypeTags.MAP_TAG) {
+            return false;
+        }
+        int constraintTag = TypeUtils.getImpliedType(((MapType) type).getConstrainedType()).getTag();
+        return constraintTag == TypeTags.JSON_TAG || constraintTag == TypeTags.ANYDATA_TAG;
+    }
+
+    /**
+     * Composes an anchored collection again as anydata from its recorded events, so that the value is neither
+     * shared with the anchor nor converted to the expected type of the anchored node.
+     */
+    private static Object composeAnchoredNode(ComposerState state, String anchor)
+            throws Error.YamlParserException {
+        List<YamlEvent> events = state.anchorEvents.get(anchor);
+        if (events == null || !state.replayedAnchors.add(anchor)) {
+            // A redefined anchor which refers to its previous definition is not composed again
+            return state.anchorBuffer.get(anchor);
+        }
+        try {
+            ComposerState nodeState = new ComposerState(state);
+            nodeState.replayedEvents = events.iterator();
+            nodeState.handleExpectedType(PredefinedTypes.TYPE_ANYDATA);
+            return composeNode(nodeState, nodeState.replayedEvents.next(), false);
+        } finally {
+            state.replayedAnchors.remove(anchor);
+        }
+    }
+
+    /**
+     * Composes a mapping given in place as the value of a merge key. The mapping is not a part of the value
+     * being composed, hence it is composed as anydata by a separate state and its entries are converted when
+     * they are merged.
+     */
+    private static Object composeMergedMapping(ComposerState state, YamlEvent event)
+            throws Error.YamlParserException {
+        ComposerState mappingState = new ComposerState(state);
+        mappingState.handleExpectedType(PredefinedTypes.TYPE_ANYDATA);
+        Object mapping = composeNode(mappingState, event, false);
+        if (mappingState.terminatedDocEvent != null) {
+            state.terminatedDocEvent = mappingState.terminatedDocEvent;
+        }
+        return mapping;
+    }
+
+    /**
+     * Adds the entries of the merged mappings which are not defined in the mapping being composed. An entry of a
+     * merged mapping takes precedence over the same entry of the mappings that follow it. The values are added
+     * the same as an alias, hence they are shared with the merged mapping unless converted to the expected type,
+     * or copied to be frozen along with a readonly value.
+     */
+    private static void mergeMappings(ComposerState state, List<BMap<BString, Object>> mergedMappings) {
+        for (BMap<BString, Object> mergedMapping : mergedMappings) {
+            for (BString mergedKey : mergedMapping.getKeys()) {
+                String key = state.internedStrings.internKey(mergedKey.getValue());
+                if (!state.mappingKeys.add(key)) {
+                    continue;
+                }
+                Values.handleFieldName(key, state);
+                if (state.expectedTypes.peek() == null) {
+                    // The entry is not a part of the expected type
+                    state.expectedTypes.pop();
+                    state.fieldNameHierarchy.peek().pop();
+                    continue;
+                }
+                addSharedValue(state, mergedMapping.get(mergedKey));
+            }
+        }
+    }
+
 
     /**
      * Update the alias dictionary for the given alias.
@@ -1042,15 +1507,24 @@ public class YamlParser {
      * @param state - Current composer state
      * @param event - The event representing the alias name
      * @param assignedValue - Anchored value to the alias
+     * @param events - Events of the anchored collection, or null for a scalar
      */
-    public static void checkAnchor(ComposerState state, YamlEvent event, Object assignedValue)
-            throws Error.YamlParserException {
+    public static void checkAnchor(ComposerState state, YamlEvent event, Object assignedValue,
+                                   List<YamlEvent> events) throws Error.YamlParserException {
 
-        if (event.getAnchor() != null) {
+        if (event.getAnchor() != null && state.replayedEvents == null) {
             if (state.anchorBuffer.containsKey(event.getAnchor()) && !state.allowAnchorRedefinition) {
                 throw new Error.YamlParserException("duplicate anchor definition", state.getLine(), state.getColumn());
             }
+            if (state.metrics != null) {
+                state.metrics.addAnchor();
+            }
             state.anchorBuffer.put(event.getAnchor(), assignedValue);
+            if (events != null) {
+                state.anchorEvents.put(event.getAnchor(), events);
+            } else {
+                state.anchorEvents.remove(event.getAnchor());
+            }
         }
     }
 
@@ -1113,13 +1587,16 @@ public class YamlParser {
      * @param docType - Document type to be parsed
      * @return - Parsed event
      */
-    private static YamlEvent handleEvent(ComposerState state, Types.DocumentType docType)
+    static YamlEvent handleEvent(ComposerState state, Types.DocumentType docType)
             throws Error.YamlParserException {
         if (state.terminatedDocEvent != null &&
                 state.terminatedDocEvent.getKind() == YamlEvent.EventKind.DOCUMENT_MARKER_EVENT) {
             return state.terminatedDocEvent;
         }
-        return parse(state.parserState, ParserUtils.ParserOption.DEFAULT, docType);
+        if (state.replayedEvents != null) {
+            return state.replayedEvents.next();
+        }
+        return recordEvent(state, parse(state.parserState, ParserUtils.ParserOption.DEFAULT, docType));
     }
 
     /**
@@ -1129,13 +1606,23 @@ public class YamlParser {
      * @param option - Expected values inside a mapping collection
      * @return - Parsed event
      */
-    private static YamlEvent handleEvent(ComposerState state, ParserUtils.ParserOption option)
+    static YamlEvent handleEvent(ComposerState state, ParserUtils.ParserOption option)
             throws Error.YamlParserException {
         if (state.terminatedDocEvent != null &&
                 state.terminatedDocEvent.getKind() == YamlEvent.EventKind.DOCUMENT_MARKER_EVENT) {
             return state.terminatedDocEvent;
         }
-        return parse(state.parserState, option, BARE_DOCUMENT);
+        if (state.replayedEvents != null) {
+            return state.replayedEvents.next();
+        }
+        return recordEvent(state, parse(state.parserState, option, BARE_DOCUMENT));
+    }
+
+    private static YamlEvent recordEvent(ComposerState state, YamlEvent event) {
+        for (List<YamlEvent> recordedEvents : state.eventRecorders) {
+            recordedEvents.add(event);
+        }
+        return event;
     }
 
     /**
@@ -2339,7 +2826,12 @@ public class YamlParser {
 
         // Obtain a token form the lexer if there is none in the buffer.
         if (state.getBufferedToken().getType() == Token.TokenType.DUMMY) {
+            ParseMetrics metrics = state.getMetrics();
+            long startTime = metrics == null ? 0 : System.nanoTime();
             state.updateLexerState(YamlLexer.scanTokens(state.getLexerState()));
+            if (metrics != null) {
+                metrics.addLexingTime(System.nanoTime() - startTime);
+            }
             token = state.getLexerState().getToken();
         } else {
             token = state.getBufferedToken();
@@ -0,0 +1,303 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.data.yaml.serializer;
+
+import io.ballerina.lib.data.yaml.common.IntStack;
+import io.ballerina.lib.data.yaml.common.Types;
+import io.ballerina.lib.data.yaml.common.YamlEvent;
+import io.ballerina.lib.data.yaml.utils.DiagnosticLog;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static io.ballerina.lib.data.yaml.utils.Constants.DEFAULT_GLOBAL_SEQ_TAG_HANDLE;
+
+/**
+ * Reads JSON text as the stream of YAML events which the serializer generates for the equivalent `json` value.
+ * Events are produced on demand as the emitter consumes them, hence only the enclosing containers of the current
+ * token are retained. Numbers are written with the same text as in the JSON input.
+ *
+ * @since 0.1.0
+ */
+public class JsonEventReader implements Iterator<YamlEvent> {
+
+    private static final int ARRAY = 0;
+    private static final int OBJECT = 1;
+    // Top-level array written as a stream of documents
+    private static final int DOCUMENT_STREAM = 2;
+
+    private final String json;
+    private final Serializer.SerializerState state;
+    private final IntStack containers = new IntStack();
+    private int position = 0;
+    private boolean started = false;
+    // Set after a member of the current container, until the next separator
+    private boolean afterMember = false;
+    // Set after the key of an object member, until its value
+    private boolean afterKey = false;
+    private YamlEvent nextEvent = null;
+
+    public JsonEventReader(String json, Serializer.SerializerState state) {
+        this.json = json;
+        this.state = state;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (nextEvent == null) {
+            nextEvent = readEvent();
+        }
+        return nextEvent != null;
+    }
+
+    @Override
+    public YamlEvent next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        YamlEvent event = nextEvent;
+        nextEvent = null;
+        return event;
+    }
+
+    /**
+     * Reads the event of the next token.
+     *
+     * @return next event, or null if the end of the JSON text is reached
+     */
+    private YamlEvent readEvent() {
+        while (true) {
+            skipWhiteSpace();
+            if (!started) {
+                started = true;
+                YamlEvent event = readValue();
+                if (event != null) {
+                    return event;
+                }
+                continue;
+            }
+            if (containers.isEmpty()) {
+                if (position < json.length()) {
+                    throw error("unexpected content after the JSON value");
+                }
+                return null;
+            }
+
+            int container = containers.peek();
+            char c = peekChar();
+            if ((c == ']' && container != OBJECT) || (c == '}' && container == OBJECT)) {
+                if (afterKey) {
+                    throw error("unexpected '" + c + "'");
+                }
+                position++;
+                containers.pop();
+                afterMember = true;
+                if (container == DOCUMENT_STREAM) {
+                    continue;
+                }
+                return new YamlEvent.EndEvent(container == OBJECT ? Types.Collection.MAPPING :
+                        Types.Collection.SEQUENCE);
+            }
+
+            if (afterMember) {
+                expect(',');
+                afterMember = false;
+                skipWhiteSpace();
+            }
+            if (container == OBJECT && !afterKey) {
+                if (peekChar() != '"') {
+                    throw error("expected an object key");
+                }
+                String key = readString();
+                skipWhiteSpace();
+                expect(':');
+                afterKey = true;
+                return Serializer.createScalarEvent(state, key);
+            }
+            afterKey = false;
+            YamlEvent event = readValue();
+            if (event != null) {
+                return event;
+            }
+        }
+    }
+
+    /**
+     * Reads the value at the current position.
+     *
+     * @return event of the value, or null if the value is the top-level array written as a stream
+     */
+    private YamlEvent readValue() {
+        skipWhiteSpace();
+        char c = peekChar();
+        switch (c) {
+            case '{' -> {
+                position++;
+                containers.push(OBJECT);
+                afterMember = false;
+                return new YamlEvent.StartEvent(Types.Collection.MAPPING, state.flowStyle, false);
+            }
+            case '[' -> {
+                position++;
+                afterMember = false;
+                if (state.isStream && containers.isEmpty()) {
+                    containers.push(DOCUMENT_STREAM);
+                    return null;
+                }
+                containers.push(ARRAY);
+                YamlEvent startEvent = new YamlEvent.StartEvent(Types.Collection.SEQUENCE, state.flowStyle, false);
+                startEvent.setTag(DEFAULT_GLOBAL_SEQ_TAG_HANDLE);
+                return startEvent;
+            }
+            case '"' -> {
+                afterMember = true;
+                return Serializer.createScalarEvent(state, readString());
+            }
+            default -> {
+                afterMember = true;
+                return Serializer.createScalarEvent(state, readLiteral());
+            }
+        }
+    }
+
+    private String readString() {
+        position++;
+        StringBuilder value = null;
+        int segmentStart = position;
+        while (true) {
+            char c = nextChar();
+            if (c == '"') {
+                if (value == null) {
+                    return json.substring(segmentStart, position - 1);
+                }
+                return value.append(json, segmentStart, position - 1).toString();
+            }
+            if (c < ' ') {
+                throw error("unescaped control character in a string");
+            }
+            if (c != '\\') {
+                continue;
+            }
+            if (value == null) {
+                value = new StringBuilder();
+            }
+            value.append(json, segmentStart, position - 1);
+            char escaped = nextChar();
+            switch (escaped) {
+                case '"', '\\', '/' -> value.append(escaped);
+                case 'b' -> value.append('\b');
+                case 'f' -> value.append('\f');
+                case 'n' -> value.append('\n');
+                case 'r' -> value.append('\r');
+                case 't' -> value.append('\t');
+                case 'u' -> {
+                    if (position + 4 > json.length()) {
+                        throw error("incomplete unicode escape");
+                    }
+                    try {
+                        value.append((char) Integer.parseInt(json, position, position + 4, 16));
+                    } catch (NumberFormatException e) {
+                        throw error("invalid unicode escape");
+                    }
+                    position += 4;
+                }
+                default -> throw error("invalid escape character '" + escaped + "'");
+            }
+            segmentStart = position;
+        }
+    }
+
+    private String readLiteral() {
+        int start = position;
+        for (String literal : new String[]{"true", "false", "null"}) {
+            if (json.startsWith(literal, position)) {
+                position += literal.length();
+                return literal;
+            }
+        }
+
+        // -?(0|[1-9][0-9]*)(.[0-9]+)?([eE][+-]?[0-9]+)?
+        if (position < json.length() && json.charAt(position) == '-') {
+            position++;
+        }
+        if (position < json.length() && json.charAt(position) == '0') {
+            position++;
+        } else if (skipDigits() == 0) {
+            throw error("unexpected character");
+        }
+        if (position < json.length() && json.charAt(position) == '.') {
+            position++;
+            if (skipDigits() == 0) {
+                throw error("invalid number");
+            }
+        }
+        if (position < json.length() && (json.charAt(position) == 'e' || json.charAt(position) == 'E')) {
+            position++;
+            if (position < json.length() && (json.charAt(position) == '+' || json.charAt(position) == '-')) {
+                position++;
+            }
+            if (skipDigits() == 0) {
+                throw error("invalid number");
+            }
+        }
+        return json.substring(start, position);
+    }
+
+    private int skipDigits() {
+        int start = position;
+        while (position < json.length() && Character.isDigit(json.charAt(position))) {
+            position++;
+        }
+        return position - start;
+    }
+
+    private void skipWhiteSpace() {
+        while (position < json.length()) {
+            char c = json.charAt(position);
+            if (c != ' ' && c != '\t' && c != '\n' && c != '\r') {
+                return;
+            }
+            position++;
+        }
+    }
+
+    private void expect(char expected) {
+        if (position >= json.length() || json.charAt(position) != expected) {
+            throw error("expected '" + expected + "'");
+        }
+        position++;
+    }
+
+    private char peekChar() {
+        if (position >= json.length()) {
+            throw error("unexpected end of the JSON text");
+        }
+        return json.charAt(position);
+    }
+
+    private char nextChar() {
+        char c = peekChar();
+        position++;
+        return c;
+    }
+
+    private RuntimeException error(String message) {
+        return DiagnosticLog.getYamlError("invalid JSON: " + message + " at index " + position);
+    }
+}
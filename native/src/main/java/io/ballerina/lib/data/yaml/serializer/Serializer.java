@@ -86,7 +86,10 @@ public class Serializer {
     }
 
     private static void serializeString(SerializerState state, Object data) {
-        String value = data.toString();
+        state.events.add(createScalarEvent(state, data.toString()));
+    }
+
+    static YamlEvent createScalarEvent(SerializerState state, String value) {
         if (value.contains("\n")) {
             value = state.delimiter + value.replaceAll("\n", "\\n") + state.delimiter;
         } else {
@@ -95,7 +98,7 @@ public class Serializer {
 
         YamlEvent scalarEvent = new YamlEvent.ScalarEvent(value);
         scalarEvent.setTag(DEFAULT_GLOBAL_STR_TAG_HANDLE);
-        state.events.add(scalarEvent);
+        return scalarEvent;
     }
 
     private static void serializeSequence(SerializerState state, BArray data, int depthLevel) {
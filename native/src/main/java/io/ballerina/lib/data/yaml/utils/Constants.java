@@ -52,6 +52,8 @@ public class Constants {
     public static final BString ABSENT_AS_NILABLE_TYPE = StringUtils.fromString("absentAsNilableType");
     public static final BString ENABLE_YAML_STREAM_REORDER = StringUtils.fromString("enableYamlStreamReorder");
     public static final BString ENABLE_CONSTRAINT_VALIDATION = StringUtils.fromString("enableConstraintValidation");
+    public static final BString ENABLE_PARALLEL_STREAM = StringUtils.fromString("enableParallelStream");
+    public static final BString READ_AHEAD_BLOCK_COUNT = StringUtils.fromString("readAheadBlockCount");
     public static final BString START_OF_YAML_DOCUMENT = StringUtils.fromString("---");
 
     private Constants() {
@@ -51,7 +51,11 @@ public class DiagnosticLog {
     }
 
     public static BError getYamlError(String message) {
+        return getYamlError(message, null);
+    }
+
+    public static BError getYamlError(String message, BError cause) {
         return ErrorCreator.createError(ModuleUtils.getModule(), ERROR, StringUtils.fromString(message),
-                null, null);
+                cause, null);
     }
 }
@@ -18,13 +18,16 @@
 
 package io.ballerina.lib.data.yaml.utils;
 
+import io.ballerina.lib.data.yaml.common.ArrayStack;
 import io.ballerina.lib.data.yaml.common.Types;
+import io.ballerina.lib.data.yaml.metrics.YamlUnionFallbackEvent;
 import io.ballerina.lib.data.yaml.parser.ParserUtils;
 import io.ballerina.lib.data.yaml.parser.Values;
 import io.ballerina.runtime.api.creators.ValueCreator;
 import io.ballerina.runtime.api.flags.SymbolFlags;
 import io.ballerina.runtime.api.types.ArrayType;
 import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.FiniteType;
 import io.ballerina.runtime.api.types.IntersectionType;
 import io.ballerina.runtime.api.types.MapType;
 import io.ballerina.runtime.api.types.PredefinedTypes;
@@ -40,13 +43,13 @@ import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
+import org.ballerinalang.langlib.value.CloneReadOnly;
 
 import java.util.ArrayDeque;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
-import java.util.Stack;
 
 /**
  * Traverse json tree.
@@ -79,8 +82,8 @@ public class JsonTraverse {
 
     private static class JsonTree {
         Field currentField;
-        Stack<Map<String, Field>> fieldHierarchy = new Stack<>();
-        Stack<Type> restType = new Stack<>();
+        ArrayStack<Map<String, Field>> fieldHierarchy = new ArrayStack<>();
+        ArrayStack<Type> restType = new ArrayStack<>();
         Deque<String> fieldNames = new ArrayDeque<>();
         Type rootArray;
         boolean allowDataProjection = true;
@@ -104,7 +107,7 @@ public class JsonTraverse {
             switch (referredType.getTag()) {
                 case TypeTags.RECORD_TYPE_TAG -> {
                     RecordType recordType = (RecordType) referredType;
-                    fieldHierarchy.push(ParserUtils.getAllFieldsInRecord(recordType));
+                    fieldHierarchy.push(new HashMap<>(ParserUtils.getAllFieldsInRecord(recordType)));
                     restType.push(recordType.getRestFieldType());
                     return traverseMapJsonOrArrayJson(json,
                             ValueCreator.createRecordValue(type.getPackage(), type.getName()), referredType);
@@ -127,17 +130,26 @@ public class JsonTraverse {
                    return Values.fromStringWithType(Values.convertValueToBString(json), referredType, schema);
                 }
                 case TypeTags.UNION_TAG -> {
+                    YamlUnionFallbackEvent event = new YamlUnionFallbackEvent();
+                    event.begin();
+                    int attempts = 0;
                     Object result;
                     for (Type memberType : ((UnionType) referredType).getMemberTypes()) {
+                        if (json instanceof BMap<?, ?> map && hasMismatchingSingletonField(map, memberType)) {
+                            continue;
+                        }
+                        attempts++;
                         try {
                             result = traverseJson(json, memberType);
                             if (!(result instanceof BError)) {
+                                commitUnionFallbackEvent(event, type, attempts, true);
                                 return result;
                             }
                         } catch (Exception e) {
                             // Ignore
                         }
                     }
+                    commitUnionFallbackEvent(event, type, attempts, false);
                     throw DiagnosticLog.error(DiagnosticErrorCode.INVALID_TYPE, type, PredefinedTypes.TYPE_ANYDATA);
                 }
                 case TypeTags.JSON_TAG, TypeTags.ANYDATA_TAG -> {
@@ -154,7 +166,8 @@ public class JsonTraverse {
                         if (constituentType.getTag() == TypeTags.READONLY_TAG) {
                             continue;
                         }
-                        return Values.constructReadOnlyValue(traverseJson(json, constituentType));
+                        // The json and anydata values are not rebuilt, hence they may be shared with an anchor
+                        return CloneReadOnly.cloneReadOnly(traverseJson(json, constituentType));
                     }
                     throw DiagnosticLog.error(DiagnosticErrorCode.UNSUPPORTED_TYPE, type);
                 }
@@ -163,6 +176,50 @@ public class JsonTraverse {
             }
         }
 
+        /**
+         * Checks whether the given member is a record type with a field of a string singleton type, which does not
+         * match the string value of the field in the given mapping. Such members are skipped without traversing
+         * the mapping, hence a discriminator field decides the member of a union of record types. Values of other
+         * types may still be converted to the singleton type, hence they do not skip the member.
+         */
+        private static boolean hasMismatchingSingletonField(BMap<?, ?> map, Type memberType) {
+            Type referredType = TypeUtils.getReferredType(memberType);
+            if (referredType.getTag() != TypeTags.RECORD_TYPE_TAG) {
+                return false;
+            }
+            for (Map.Entry<String, Field> field : ParserUtils.getAllFieldsInRecord((RecordType) referredType)
+                    .entrySet()) {
+                Type fieldType = TypeUtils.getReferredType(field.getValue().getFieldType());
+                if (fieldType.getTag() != TypeTags.FINITE_TYPE_TAG) {
+                    continue;
+                }
+                Object value = map.get(StringUtils.fromString(field.getKey()));
+                if (value instanceof BString stringValue
+                        && !matchesStringSingleton(stringValue, (FiniteType) fieldType)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static boolean matchesStringSingleton(BString value, FiniteType singletonType) {
+            for (Object singletonValue : singletonType.getValueSpace()) {
+                if (!(singletonValue instanceof BString singletonString)
+                        || singletonString.getValue().equals(value.getValue())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static void commitUnionFallbackEvent(YamlUnionFallbackEvent event, Type type, int attempts,
+                                                     boolean successful) {
+            // Resolving with the first member does not involve a fallback
+            if (attempts > 1) {
+                event.commit(type, YamlUnionFallbackEvent.UNION_MEMBER_RETRY, attempts, successful);
+            }
+        }
+
         private Object traverseMapJsonOrArrayJson(Object json, Object currentJsonNode, Type type) {
             if (json instanceof BMap bMap) {
                 return traverseMapValue(bMap, currentJsonNode);
@@ -33,7 +33,8 @@ public class OptionsUtils {
     }
 
     public record WriteConfig(int indentationPolicy, int blockLevel, boolean canonical, boolean useSingleQuotes,
-                              boolean forceQuotes, Types.YAMLSchema schema, boolean isStream, boolean flowStyle) {
+                              boolean forceQuotes, Types.YAMLSchema schema, boolean isStream, boolean flowStyle,
+                              boolean enableParallelStream) {
     }
 
     public static WriteConfig resolveWriteOptions(BMap<BString, Object> options) {
@@ -45,24 +46,28 @@ public class OptionsUtils {
         BString schema = (BString) options.get(Constants.SCHEMA);
         Boolean isStream = (Boolean) options.get(Constants.IS_STREAM);
         Boolean flowStyle = (Boolean) options.get(Constants.FLOW_STYLE);
+        Boolean enableParallelStream = (Boolean) options.get(Constants.ENABLE_PARALLEL_STREAM);
 
         return new WriteConfig(Math.toIntExact(indentationPolicy), Math.toIntExact(blockLevel), canonical,
-                useSingleQuotes, forceQuotes, Types.YAMLSchema.valueOf(schema.getValue()), isStream, flowStyle);
+                useSingleQuotes, forceQuotes, Types.YAMLSchema.valueOf(schema.getValue()), isStream, flowStyle,
+                enableParallelStream);
     }
 
     public record ReadConfig(Types.YAMLSchema schema, boolean allowAnchorRedefinition,
                              boolean allowMapEntryRedefinition, boolean allowDataProjection,
-                             boolean nilAsOptionalField, boolean absentAsNilableType, boolean enableYamlStreamReorder) {
+                             boolean nilAsOptionalField, boolean absentAsNilableType, boolean enableYamlStreamReorder,
+                             boolean enableParallelStream) {
     }
 
     public static ReadConfig resolveReadConfig(BMap<BString, Object> options) {
         BString schema = (BString) options.get(Constants.SCHEMA);
         Boolean allowAnchorRedefinition = (Boolean) options.get(Constants.ALLOW_ANCHOR_REDEFINITION);
         Boolean allowMapEntryRedefinition = (Boolean) options.get(Constants.ALLOW_MAP_ENTRY_REDEFINITION);
+        Boolean enableParallelStream = (Boolean) options.get(Constants.ENABLE_PARALLEL_STREAM);
         Object allowDataProjection = options.get(Constants.ALLOW_DATA_PROJECTION);
         if (allowDataProjection instanceof Boolean) {
             return new ReadConfig(Types.YAMLSchema.valueOf(schema.getValue()), allowAnchorRedefinition,
-                    allowMapEntryRedefinition, false, false, false, false);
+                    allowMapEntryRedefinition, false, false, false, false, enableParallelStream);
         }
         Boolean nilAsOptionalField = (Boolean) ((BMap<?, ?>) allowDataProjection).get(Constants.NIL_AS_OPTIONAL_FIELD);
         Boolean absentAsNilableType = (Boolean) ((BMap<?, ?>) allowDataProjection).
@@ -72,6 +77,6 @@ public class OptionsUtils {
 
         return new ReadConfig(Types.YAMLSchema.valueOf(schema.getValue()), allowAnchorRedefinition,
                 allowMapEntryRedefinition, true, nilAsOptionalField, absentAsNilableType,
-                enableYamlStreamReorder);
+                enableYamlStreamReorder, enableParallelStream);
     }
 }
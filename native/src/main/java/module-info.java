@@ -20,7 +20,10 @@ module io.ballerina.lib.data {
     requires io.ballerina.runtime;
     requires io.ballerina.lang.value;
     requires io.ballerina.stdlib.constraint;
+    requires jdk.jfr;
     requires junit;
     requires org.apache.commons.lang3;
     exports io.ballerina.lib.data.yaml;
+    exports io.ballerina.lib.data.yaml.metrics;
+    uses io.ballerina.lib.data.yaml.metrics.YamlMetricsListener;
 }
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.data.yaml.metrics;
+
+import io.ballerina.lib.data.yaml.Native;
+import io.ballerina.lib.data.yaml.utils.Constants;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Tests the delivery of the metrics to the registered listeners.
+ *
+ * @since 0.1.0
+ */
+public class YamlMetricsTest {
+
+    private static final BString CORE_SCHEMA = StringUtils.fromString("CORE_SCHEMA");
+
+    @Test
+    public void testListenerReceivesParseAndSerializeMetrics() {
+        List<ParseMetrics> parseMetrics = new CopyOnWriteArrayList<>();
+        List<SerializeMetrics> serializeMetrics = new CopyOnWriteArrayList<>();
+        YamlMetricsListener listener = new YamlMetricsListener() {
+            @Override
+            public void onParse(ParseMetrics metrics) {
+                parseMetrics.add(metrics);
+            }
+
+            @Override
+            public void onSerialize(SerializeMetrics metrics) {
+                serializeMetrics.add(metrics);
+            }
+        };
+
+        YamlMetrics.addListener(listener);
+        try {
+            Assert.assertTrue(YamlMetrics.isEnabled());
+            Object value = Native.parseString(StringUtils.fromString("name: John\nage: 30"), createReadOptions(),
+                    ValueCreator.createTypedescValue(PredefinedTypes.TYPE_JSON));
+            Assert.assertFalse(value instanceof BError);
+            Native.toYamlStringArray(value, createWriteOptions());
+        } finally {
+            YamlMetrics.removeListener(listener);
+        }
+
+        Assert.assertEquals(1, parseMetrics.size());
+        ParseMetrics parse = parseMetrics.get(0);
+        Assert.assertTrue(parse.isSuccessful());
+        Assert.assertEquals(18, parse.getInputBytes());
+        Assert.assertTrue(parse.getNodes() > 0);
+
+        Assert.assertEquals(1, serializeMetrics.size());
+        SerializeMetrics serialize = serializeMetrics.get(0);
+        Assert.assertTrue(serialize.isSuccessful());
+        Assert.assertEquals(2, serialize.getOutputLines());
+    }
+
+    @Test
+    public void testRemovedListenerDisablesMetrics() {
+        YamlMetricsListener listener = new YamlMetricsListener() { };
+        YamlMetrics.addListener(listener);
+        Assert.assertNotNull(YamlMetrics.createSerializeMetrics());
+        YamlMetrics.removeListener(listener);
+        Assert.assertNull(YamlMetrics.createSerializeMetrics());
+    }
+
+    private static BMap<BString, Object> createReadOptions() {
+        BMap<BString, Object> options = ValueCreator.createMapValue();
+        options.put(Constants.SCHEMA, CORE_SCHEMA);
+        options.put(Constants.ALLOW_ANCHOR_REDEFINITION, true);
+        options.put(Constants.ALLOW_MAP_ENTRY_REDEFINITION, false);
+        options.put(Constants.ALLOW_DATA_PROJECTION, false);
+        options.put(Constants.ENABLE_CONSTRAINT_VALIDATION, false);
+        options.put(Constants.ENABLE_PARALLEL_STREAM, false);
+        return options;
+    }
+
+    private static BMap<BString, Object> createWriteOptions() {
+        BMap<BString, Object> options = ValueCreator.createMapValue();
+        options.put(Constants.INDENTATION_POLICY, 2L);
+        options.put(Constants.BLOCK_LEVEL, 1L);
+        options.put(Constants.CANONICAL, false);
+        options.put(Constants.USE_SINGLE_QUOTES, false);
+        options.put(Constants.FORCE_QUOTES, false);
+        options.put(Constants.SCHEMA, CORE_SCHEMA);
+        options.put(Constants.IS_STREAM, false);
+        options.put(Constants.FLOW_STYLE, false);
+        options.put(Constants.ENABLE_PARALLEL_STREAM, false);
+        return options;
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.data.yaml.parser;
+
+import io.ballerina.lib.data.yaml.common.Types;
+import io.ballerina.lib.data.yaml.utils.OptionsUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.StringReader;
+
+/**
+ * Tests the reuse of the composer states by the parses.
+ *
+ * @since 0.1.0
+ */
+public class ComposerStatePoolTest {
+
+    private static final OptionsUtils.ReadConfig READ_CONFIG = new OptionsUtils.ReadConfig(
+            Types.YAMLSchema.CORE_SCHEMA, false, false, true, true, false, false, false);
+
+    @Test
+    public void testReleasedStateIsReused() {
+        YamlParser.ComposerState state = acquire("name: John");
+        YamlParser.releaseComposerState(state);
+        YamlParser.ComposerState reusedState = acquire("name: Doe");
+        try {
+            Assert.assertSame(state, reusedState);
+        } finally {
+            YamlParser.releaseComposerState(reusedState);
+        }
+    }
+
+    @Test
+    public void testStateInUseIsNotShared() {
+        YamlParser.ComposerState state = acquire("name: John");
+        YamlParser.ComposerState nestedState = acquire("name: Doe");
+        try {
+            Assert.assertNotSame(state, nestedState);
+        } finally {
+            YamlParser.releaseComposerState(nestedState);
+            YamlParser.releaseComposerState(state);
+        }
+    }
+
+    private static YamlParser.ComposerState acquire(String content) {
+        return YamlParser.acquireComposerState(new StringReader(content), READ_CONFIG, null);
+    }
+}